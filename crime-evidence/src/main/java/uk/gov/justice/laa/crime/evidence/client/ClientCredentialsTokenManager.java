@@ -0,0 +1,180 @@
+package uk.gov.justice.laa.crime.evidence.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.evidence.common.SingleFlight;
+import uk.gov.justice.laa.crime.evidence.config.MaatApiTokenConfiguration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2ClientCredentialsGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+/**
+ * Holds one client credentials access token, shared by every caller whatever its principal, and replaces it on a
+ * background thread ahead of expiry. The first token is fetched at startup, so inbound requests only wait for the
+ * token endpoint when no unexpired token could be fetched in the background. Fetches are coalesced, so callers
+ * arriving during one share its token.
+ * <p>
+ * Fetches are timed in {@code maat.api.token.refresh}, tagged with the outcome, and the seconds left before the
+ * current token expires are gauged in {@code maat.api.token.expiry}.
+ */
+@Slf4j
+public class ClientCredentialsTokenManager implements OAuth2AuthorizedClientManager {
+
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(5);
+    private static final Duration MINIMUM_REFRESH_INTERVAL = Duration.ofSeconds(1);
+
+    private final ClientRegistration clientRegistration;
+    private final OAuth2AccessTokenResponseClient<OAuth2ClientCredentialsGrantRequest> tokenResponseClient;
+    private final MaatApiTokenConfiguration configuration;
+    private final AtomicReference<OAuth2AuthorizedClient> current = new AtomicReference<>();
+    private final SingleFlight<String, OAuth2AuthorizedClient> fetches;
+    private final ScheduledExecutorService scheduler;
+    private final Timer succeeded;
+    private final Timer failed;
+
+    public ClientCredentialsTokenManager(
+            ClientRegistration clientRegistration,
+            OAuth2AccessTokenResponseClient<OAuth2ClientCredentialsGrantRequest> tokenResponseClient,
+            MaatApiTokenConfiguration configuration,
+            MeterRegistry meterRegistry) {
+        this.clientRegistration = clientRegistration;
+        this.tokenResponseClient = tokenResponseClient;
+        this.configuration = configuration;
+        this.fetches = new SingleFlight<>("oauth-token", meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "maat-api-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.succeeded = timer(meterRegistry, "success");
+        this.failed = timer(meterRegistry, "failure");
+        Gauge.builder("maat.api.token.expiry", current, ClientCredentialsTokenManager::secondsUntilExpiry)
+                .description("Seconds until the current MAAT API access token expires")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("maat.api.token.refresh")
+                .description("Requests to the MAAT API token endpoint")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static double secondsUntilExpiry(AtomicReference<OAuth2AuthorizedClient> current) {
+        OAuth2AuthorizedClient client = current.get();
+        if (client == null || client.getAccessToken().getExpiresAt() == null) {
+            return 0;
+        }
+        Duration remaining = Duration.between(Instant.now(), client.getAccessToken().getExpiresAt());
+        return Math.max(0, remaining.toSeconds());
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.execute(this::refreshAndReschedule);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public OAuth2AuthorizedClient authorize(OAuth2AuthorizeRequest authorizeRequest) {
+        OAuth2AuthorizedClient client = current.get();
+        if (client != null && !isExpired(client.getAccessToken())) {
+            return client;
+        }
+        log.warn("No unexpired MAAT API access token, fetching one for the request");
+        return fetch();
+    }
+
+    /**
+     * Whether a token has been fetched that has not yet expired.
+     */
+    public boolean hasValidToken() {
+        OAuth2AuthorizedClient client = current.get();
+        return client != null && !isExpired(client.getAccessToken());
+    }
+
+    /**
+     * Drops the current token, e.g. after the MAAT API rejected it, so the next call fetches a new one rather than
+     * waiting for the scheduled refresh.
+     */
+    public void invalidate() {
+        if (current.getAndSet(null) != null) {
+            log.warn("MAAT API access token rejected, a new one will be fetched");
+        }
+    }
+
+    OAuth2AuthorizedClient fetch() {
+        return fetches.execute(clientRegistration.getRegistrationId(), () -> {
+            long start = System.nanoTime();
+            try {
+                OAuth2AccessToken accessToken = tokenResponseClient
+                        .getTokenResponse(new OAuth2ClientCredentialsGrantRequest(clientRegistration))
+                        .getAccessToken();
+                OAuth2AuthorizedClient client = new OAuth2AuthorizedClient(
+                        clientRegistration, clientRegistration.getRegistrationId(), accessToken);
+                current.set(client);
+                succeeded.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return client;
+            } catch (RuntimeException e) {
+                failed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        });
+    }
+
+    Duration untilRefresh(OAuth2AccessToken accessToken) {
+        Instant now = Instant.now();
+        Instant expiresAt = accessToken.getExpiresAt();
+        if (expiresAt == null) {
+            return configuration.getRefreshAhead();
+        }
+        Instant issuedAt = accessToken.getIssuedAt() != null ? accessToken.getIssuedAt() : now;
+        Duration halfLifetime = Duration.between(issuedAt, expiresAt).dividedBy(2);
+        Duration refreshAhead = configuration.getRefreshAhead().compareTo(halfLifetime) < 0
+                ? configuration.getRefreshAhead()
+                : halfLifetime;
+        Duration untilRefresh = Duration.between(now, expiresAt.minus(refreshAhead));
+        return untilRefresh.compareTo(MINIMUM_REFRESH_INTERVAL) < 0 ? MINIMUM_REFRESH_INTERVAL : untilRefresh;
+    }
+
+    private void refreshAndReschedule() {
+        Duration delay;
+        try {
+            OAuth2AuthorizedClient client = fetch();
+            delay = untilRefresh(client.getAccessToken());
+            log.debug("MAAT API access token refreshed, next refresh in {}s", delay.toSeconds());
+        } catch (RuntimeException e) {
+            delay = configuration.getRetryInterval();
+            log.warn("Unable to refresh the MAAT API access token, trying again in {}s", delay.toSeconds(), e);
+        }
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::refreshAndReschedule, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static boolean isExpired(OAuth2AccessToken accessToken) {
+        return accessToken.getExpiresAt() != null
+                && Instant.now().plus(EXPIRY_MARGIN).isAfter(accessToken.getExpiresAt());
+    }
+}
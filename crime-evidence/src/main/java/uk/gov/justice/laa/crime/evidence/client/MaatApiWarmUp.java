@@ -0,0 +1,121 @@
+package uk.gov.justice.laa.crime.evidence.client;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import uk.gov.justice.laa.crime.evidence.config.MaatApiWarmUpConfiguration;
+import uk.gov.justice.laa.crime.evidence.config.ServicesConfiguration;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens connections to the MAAT API in the web clients' pool, and fetches the first access token, before the
+ * application accepts traffic. Spring Boot only reports the readiness state as accepting traffic once every
+ * {@link ApplicationRunner} has returned, so the readiness probe reports out of service until the warm-up has
+ * finished, and the first requests after a rollout find a warm pool and a token instead of paying for the TCP and
+ * TLS handshakes and the token endpoint themselves.
+ * <p>
+ * Each connection is opened with an authenticated OPTIONS request, which the MAAT API answers without running the
+ * operation, so the warm-up neither fails authentication nor asks for a path that does not exist. Without a token
+ * no connections are opened.
+ * <p>
+ * Warm connections only stay in the pool while idle for less than its maximum idle time, so the readiness probe is
+ * set to start, and to poll, often enough that traffic arrives well within it. Failures are logged rather than
+ * thrown, and the warm-up gives up after its timeout, so an unavailable MAAT API delays readiness without preventing
+ * it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaatApiWarmUp implements ApplicationRunner {
+
+    private static final String PRINCIPAL = "maat-api-warm-up";
+
+    private final HttpClient httpClient;
+    private final ClientCredentialsTokenManager maatApiTokenManager;
+    private final ServicesConfiguration servicesConfiguration;
+    private final MaatApiWarmUpConfiguration configuration;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    void warmUp() {
+        if (!configuration.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Long opened = fetchToken()
+                    .flatMap(this::openConnections)
+                    .defaultIfEmpty(0L)
+                    .block(configuration.getTimeout());
+            log.info(
+                    "Warmed up the MAAT API client in {}ms: {} of {} connections opened",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    opened,
+                    configuration.getConnections());
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Unable to warm up the MAAT API client within {}s, accepting traffic regardless",
+                    configuration.getTimeout().toSeconds(),
+                    e);
+        }
+    }
+
+    private Mono<String> fetchToken() {
+        OAuth2AuthorizeRequest authorizeRequest = OAuth2AuthorizeRequest.withClientRegistrationId(
+                        servicesConfiguration.getMaatApi().getRegistrationId())
+                .principal(PRINCIPAL)
+                .build();
+        return Mono.fromCallable(() -> {
+                    if (!maatApiTokenManager.hasValidToken()) {
+                        // Joins the fetch started by the token manager itself, if it is still in flight
+                        maatApiTokenManager.fetch();
+                    }
+                    return maatApiTokenManager
+                            .authorize(authorizeRequest)
+                            .getAccessToken()
+                            .getTokenValue();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Unable to fetch a MAAT API access token during warm-up, opening no connections", e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Sends every request at once, so none can reuse another's connection and each opens its own.
+     */
+    private Mono<Long> openConnections(String accessToken) {
+        String uri = servicesConfiguration.getMaatApi().getBaseUrl() + configuration.getPath();
+        HttpClient authenticated =
+                httpClient.headers(headers -> headers.set(HttpHeaderNames.AUTHORIZATION, "Bearer " + accessToken));
+        return authenticated
+                .warmup()
+                .thenMany(Flux.range(0, configuration.getConnections())
+                        .flatMap(
+                                connection -> authenticated
+                                        .options()
+                                        .uri(uri)
+                                        .responseSingle((response, body) ->
+                                                body.asByteArray().thenReturn(response.status()))
+                                        .onErrorResume(e -> {
+                                            log.debug("Unable to open a MAAT API connection during warm-up", e);
+                                            return Mono.empty();
+                                        }),
+                                configuration.getConnections()))
+                .count();
+    }
+}
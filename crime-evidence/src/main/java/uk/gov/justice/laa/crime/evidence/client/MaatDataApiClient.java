@@ -2,7 +2,10 @@ package uk.gov.justice.laa.crime.evidence.client;
 
 import uk.gov.justice.laa.crime.common.model.evidence.ApiGetPassportEvidenceResponse;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 
@@ -12,5 +15,7 @@ public interface MaatDataApiClient {
     Integer getCapitalAssetCount(@PathVariable Integer repId);
 
     @GetExchange("/passport-assessments/{passportAssessmentId}/evidence")
-    ApiGetPassportEvidenceResponse getPassportEvidence(@PathVariable int passportAssessmentId);
+    ResponseEntity<ApiGetPassportEvidenceResponse> getPassportEvidence(
+            @PathVariable int passportAssessmentId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 }
@@ -0,0 +1,64 @@
+package uk.gov.justice.laa.crime.evidence.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Stops a value fetched before an eviction from being cached after it. Each key being fetched has a generation that
+ * {@link #evict(Object)} moves on; a fetch only writes its value back if the generation it started in is still
+ * current, checked atomically with the eviction. A key's generation is only kept while it has fetches in flight.
+ * <p>
+ * Callers evict here before invalidating their own caches, so a write either lands before the invalidation or not
+ * at all.
+ */
+public final class EvictionGuard<K> {
+
+    private final ConcurrentMap<K, Generation> generations = new ConcurrentHashMap<>();
+
+    public <V> V fetch(K key, Supplier<V> fetch, Consumer<V> write) {
+        if (key == null) {
+            V value = fetch.get();
+            write.accept(value);
+            return value;
+        }
+
+        long[] started = new long[1];
+        generations.compute(key, (k, current) -> {
+            Generation generation = current != null ? current : new Generation();
+            generation.inFlight++;
+            started[0] = generation.number;
+            return generation;
+        });
+        try {
+            V value = fetch.get();
+            generations.computeIfPresent(key, (k, current) -> {
+                if (current.number == started[0]) {
+                    write.accept(value);
+                }
+                return current;
+            });
+            return value;
+        } finally {
+            generations.computeIfPresent(key, (k, current) -> --current.inFlight == 0 ? null : current);
+        }
+    }
+
+    public void evict(K key) {
+        if (key != null) {
+            generations.computeIfPresent(key, (k, current) -> {
+                current.number++;
+                return current;
+            });
+        }
+    }
+
+    /**
+     * Only read or changed while the map holds the key's lock.
+     */
+    private static final class Generation {
+        private long number;
+        private int inFlight;
+    }
+}
@@ -0,0 +1,69 @@
+package uk.gov.justice.laa.crime.evidence.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one. The first caller runs the call; callers arriving while it
+ * is in flight wait for it and receive the same result, or the same exception. Once the call completes the next
+ * caller starts a new one, so nothing is cached here. Anything bound to the first caller, such as the deadline of
+ * its inbound request, therefore also applies to the callers that joined it.
+ * <p>
+ * Callers that joined an in-flight call are counted in {@code maat.api.calls.collapsed}, tagged with the operation.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlightCalls = new ConcurrentHashMap<>();
+    private final Counter collapsed;
+
+    public SingleFlight(String operation, MeterRegistry meterRegistry) {
+        this.collapsed = Counter.builder("maat.api.calls.collapsed")
+                .description("MAAT API calls answered by joining an identical call already in flight")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        if (key == null) {
+            return call.get();
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = inFlightCalls.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            collapsed.increment();
+            return await(inFlight);
+        }
+
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightCalls.remove(key, flight);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "services.maat-api.concurrency-limit")
+public class ConcurrencyLimitConfiguration {
+
+    /**
+     * Whether MAAT API requests in flight are capped by a limit that adapts to MAAT's latency.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The limit to start from, before any latencies have been observed.
+     */
+    private int initialLimit = 20;
+
+    /**
+     * The limit never shrinks below this, however slow the MAAT API is.
+     */
+    private int minimumLimit = 5;
+
+    /**
+     * The limit never grows beyond this, however fast the MAAT API is.
+     */
+    private int maximumLimit = 200;
+
+    /**
+     * A response slower than this, like a failure, is taken as a sign the MAAT API is overloaded.
+     */
+    private Duration latencyThreshold = Duration.ofSeconds(2);
+
+    /**
+     * The factor, between 0 and 1, the limit is multiplied by on each sign of overload.
+     */
+    private double backoffRatio = 0.9;
+}
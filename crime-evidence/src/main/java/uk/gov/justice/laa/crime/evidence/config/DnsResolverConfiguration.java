@@ -0,0 +1,48 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "services.dns")
+public class DnsResolverConfiguration {
+
+    /**
+     * How web clients resolve host names when opening a connection.
+     */
+    private Mode mode = Mode.ASYNC;
+
+    /**
+     * Cached addresses are kept for at least this long, even if their DNS record asks for less.
+     */
+    private Duration cacheMinTimeToLive = Duration.ZERO;
+
+    /**
+     * Cached addresses are dropped after this long, even if their DNS record allows more.
+     */
+    private Duration cacheMaxTimeToLive = Duration.ofMinutes(5);
+
+    /**
+     * How long a failed lookup is remembered before the name is looked up again.
+     */
+    private Duration cacheNegativeTimeToLive = Duration.ZERO;
+
+    /**
+     * How long to wait for a DNS server to answer a query.
+     */
+    private Duration queryTimeout = Duration.ofSeconds(5);
+
+    public enum Mode {
+        /**
+         * The JDK resolver, which blocks the event loop while a name not in the JVM's cache is looked up.
+         */
+        BLOCKING,
+        /**
+         * Netty's non-blocking resolver, caching addresses for the TTL of their DNS records.
+         */
+        ASYNC
+    }
+}
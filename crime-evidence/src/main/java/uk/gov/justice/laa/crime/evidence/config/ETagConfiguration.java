@@ -0,0 +1,22 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class ETagConfiguration {
+
+    /**
+     * Adds an ETag to passport evidence responses and answers a matching If-None-Match with 304 Not Modified, so
+     * callers holding the current evidence skip the body transfer.
+     */
+    @Bean
+    FilterRegistrationBean<ShallowEtagHeaderFilter> passportEvidenceETagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/internal/v1/evidence/passport/*");
+        return registration;
+    }
+}
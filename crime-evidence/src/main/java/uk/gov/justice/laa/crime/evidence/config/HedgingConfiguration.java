@@ -0,0 +1,43 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "services.maat-api.hedging")
+public class HedgingConfiguration {
+
+    /**
+     * Whether slow MAAT API calls are hedged with a second identical request.
+     */
+    private boolean enabled;
+
+    /**
+     * How long to wait for the first attempt before sending the hedge, until enough latencies have been observed.
+     */
+    private Duration delay = Duration.ofMillis(500);
+
+    /**
+     * When set, the hedge delay follows this percentile, between 0 and 1, of recently observed latencies.
+     */
+    private Double percentile;
+
+    /**
+     * The hedge delay never drops below this, however fast recent calls were.
+     */
+    private Duration minimumDelay = Duration.ofMillis(50);
+
+    /**
+     * Hedges are capped at this percentage of hedgeable requests.
+     */
+    private double budgetPercent = 5;
+
+    /**
+     * The URI templates of the idempotent GET requests that may be hedged.
+     */
+    private List<String> uriTemplates = List.of("/rep-orders/{repId}/capital-assets/count");
+}
@@ -0,0 +1,37 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "services.maat-api.http")
+public class HttpProtocolConfiguration {
+
+    /**
+     * The HTTP version offered to the MAAT API.
+     */
+    private Protocol protocol = Protocol.HTTP11;
+
+    /**
+     * The most requests multiplexed over one HTTP/2 connection, unless the server advertises fewer.
+     */
+    private int maxConcurrentStreams = 100;
+
+    public enum Protocol {
+        /**
+         * HTTP/1.1, with one connection per in-flight request.
+         */
+        HTTP11,
+        /**
+         * HTTP/2 over TLS, negotiated by ALPN, falling back to HTTP/1.1 when the server does not offer h2. A plain
+         * {@code http} base URL is spoken to as with {@link #H2C}.
+         */
+        H2,
+        /**
+         * HTTP/2 over cleartext, by upgrading an HTTP/1.1 connection, for local testing. Servers that decline the
+         * upgrade are spoken to in HTTP/1.1.
+         */
+        H2C
+    }
+}
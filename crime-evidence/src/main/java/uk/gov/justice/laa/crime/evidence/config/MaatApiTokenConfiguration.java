@@ -0,0 +1,32 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "services.maat-api.token")
+public class MaatApiTokenConfiguration {
+
+    /**
+     * How long before it expires the MAAT API access token is replaced, capped at half its lifetime.
+     */
+    private Duration refreshAhead = Duration.ofMinutes(5);
+
+    /**
+     * How long to wait before trying again after the token endpoint failed.
+     */
+    private Duration retryInterval = Duration.ofSeconds(10);
+
+    /**
+     * How long to wait to connect to the token endpoint.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * How long to wait for the token endpoint to answer once connected.
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,35 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "services.maat-api.warm-up")
+public class MaatApiWarmUpConfiguration {
+
+    /**
+     * Whether connections to the MAAT API are opened, and an access token fetched, before the application reports
+     * itself ready.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How many connections to open. Each stays in the pool until it has been idle for the pool's maximum idle time,
+     * so the readiness probe must report ready, and traffic arrive, within that.
+     */
+    private int connections = 10;
+
+    /**
+     * The MAAT API operation requested with OPTIONS over each connection. The MAAT API answers OPTIONS for its own
+     * operations without running them, so this should be one of them.
+     */
+    private String path = "/rep-orders/0/capital-assets/count";
+
+    /**
+     * How long to wait for the warm-up before reporting ready regardless.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+}
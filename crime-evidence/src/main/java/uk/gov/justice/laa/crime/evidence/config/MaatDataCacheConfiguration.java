@@ -0,0 +1,107 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "services.maat-api.cache")
+public class MaatDataCacheConfiguration {
+
+    /**
+     * Whether capital asset counts returned by the MAAT API are cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a cached capital asset count is served before the MAAT API is asked again.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * The most repIds held at once; the least recently used are evicted beyond this.
+     */
+    private long maximumSize = 10_000;
+
+    private PassportEvidence passportEvidence = new PassportEvidence();
+
+    private NotFound notFound = new NotFound();
+
+    private StaleWhileRevalidate staleWhileRevalidate = new StaleWhileRevalidate();
+
+    @Data
+    public static class PassportEvidence {
+
+        /**
+         * Whether passport evidence is cached with its ETag and revalidated with conditional requests.
+         */
+        private boolean enabled = true;
+
+        /**
+         * The most passport assessments held at once; the least recently used are evicted beyond this.
+         */
+        private long maximumSize = 1_000;
+
+        /**
+         * Passport evidence not requested for this long is dropped rather than revalidated.
+         */
+        private Duration expireAfterAccess = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class NotFound {
+
+        /**
+         * Whether ids the MAAT API reported as not found are remembered, so repeated lookups are not sent again.
+         */
+        private boolean enabled = true;
+
+        /**
+         * How long a not found result is served before the MAAT API is asked again.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * The most not found ids held at once for each lookup.
+         */
+        private long maximumSize = 10_000;
+    }
+
+    @Data
+    public static class StaleWhileRevalidate {
+
+        /**
+         * Whether capital asset counts and passport evidence are served from their last known value while the MAAT
+         * API is asked again in the background.
+         */
+        private boolean enabled;
+
+        /**
+         * How long a last known value is served as fresh, without asking the MAAT API again.
+         */
+        private Duration softTtl = Duration.ofSeconds(30);
+
+        /**
+         * The oldest a last known value may be and still be served, as stale once past the soft TTL; older ones wait
+         * for the MAAT API.
+         */
+        private Duration maximumStaleness = Duration.ofHours(1);
+
+        /**
+         * The most last known values held at once for each lookup.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * The most background MAAT API lookups run at once for each lookup.
+         */
+        private int refreshThreads = 4;
+
+        /**
+         * How many background lookups may wait for a thread; beyond this a stale value is served without one.
+         */
+        private int refreshQueueCapacity = 100;
+    }
+}
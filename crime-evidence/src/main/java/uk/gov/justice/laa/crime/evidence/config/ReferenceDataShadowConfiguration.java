@@ -0,0 +1,32 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "reference-data.shadow")
+public class ReferenceDataShadowConfiguration {
+
+    /**
+     * Whether sampled in-memory rule lookups are re-run against the database.
+     */
+    private boolean enabled;
+
+    /**
+     * The fraction of lookups, between 0 and 1, that are verified.
+     */
+    private double sampleRate;
+
+    /**
+     * Verifications waiting beyond this many are dropped rather than queued.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * At most one mismatch is logged per interval; the rest are only counted.
+     */
+    private Duration mismatchLogInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,35 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "request-deadline")
+public class RequestDeadlineConfiguration {
+
+    /**
+     * Whether inbound requests are given a deadline that bounds the MAAT API calls made on their behalf.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The header in which a caller may send its own remaining time budget, in milliseconds. It can only shorten the
+     * deadline, never extend it.
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * The time budget of a request to an endpoint that has none of its own.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(15);
+
+    /**
+     * Time budgets by Ant-style request path pattern. The first matching pattern wins.
+     */
+    private Map<String, Duration> endpoints = new LinkedHashMap<>();
+}
@@ -0,0 +1,25 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import uk.gov.justice.laa.crime.evidence.filter.RequestDeadlineFilter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(name = "request-deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestDeadlineFilterConfiguration {
+
+    /**
+     * Ahead of every other filter, so time spent authenticating comes out of the request's budget.
+     */
+    @Bean
+    FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(RequestDeadlineConfiguration configuration) {
+        FilterRegistrationBean<RequestDeadlineFilter> registration =
+                new FilterRegistrationBean<>(new RequestDeadlineFilter(configuration));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
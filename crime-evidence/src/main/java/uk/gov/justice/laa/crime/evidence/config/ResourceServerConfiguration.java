@@ -5,6 +5,7 @@ import static org.springframework.security.config.Customizer.withDefaults;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -19,6 +20,7 @@ import org.springframework.security.web.access.AccessDeniedHandler;
 public class ResourceServerConfiguration {
 
     public static final String SCOPE_EVIDENCE_STANDARD = "SCOPE_evidence/standard";
+    public static final String SCOPE_EVIDENCE_ADMIN = "SCOPE_evidence/admin";
 
     @Bean
     protected BearerTokenAuthenticationEntryPoint bearerTokenAuthenticationEntryPoint() {
@@ -41,8 +43,11 @@ public class ResourceServerConfiguration {
                         .permitAll()
                         .requestMatchers("/open-api/**")
                         .permitAll()
-                        .requestMatchers("/actuator/**")
+                        .requestMatchers(HttpMethod.GET, "/actuator/**")
                         .permitAll()
+                        // Write operations, such as the reference data reload, change the state of the service
+                        .requestMatchers("/actuator/**")
+                        .hasAuthority(SCOPE_EVIDENCE_ADMIN)
                         .requestMatchers("/api/**")
                         .hasAuthority(SCOPE_EVIDENCE_STANDARD)
                         .anyRequest()
@@ -0,0 +1,32 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "services.maat-api.retry-after")
+public class RetryAfterConfiguration {
+
+    /**
+     * Whether retries wait out the Retry-After sent with 429 and 503 responses, with full jitter on the backoff.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The longest a retry will wait. A Retry-After beyond this fails the call rather than holding it.
+     */
+    private Duration ceiling = Duration.ofSeconds(10);
+
+    /**
+     * How long every call on the client is held after a 429 or 503 that carries no Retry-After.
+     */
+    private Duration defaultPause = Duration.ofMillis(500);
+
+    /**
+     * The longest every call on the client is held after a 429 or 503, whatever Retry-After says.
+     */
+    private Duration maximumPause = Duration.ofSeconds(2);
+}
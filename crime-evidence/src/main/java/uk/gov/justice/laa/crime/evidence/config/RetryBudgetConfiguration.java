@@ -0,0 +1,25 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "services.maat-api.retry-budget")
+public class RetryBudgetConfiguration {
+
+    /**
+     * Whether retries are limited by a budget shared across all calls, on top of the per-call attempt limit.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Retries earned per successful call, so 0.1 allows one retry for every ten successes.
+     */
+    private double ratio = 0.1;
+
+    /**
+     * The most retries that can be saved up. The budget starts full, so this many are available at startup.
+     */
+    private int maximumTokens = 10;
+}
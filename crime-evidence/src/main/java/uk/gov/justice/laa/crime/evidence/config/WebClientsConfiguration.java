@@ -1,16 +1,30 @@
 package uk.gov.justice.laa.crime.evidence.config;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.resolver.DefaultAddressResolverGroup;
 import lombok.AllArgsConstructor;
+import reactor.netty.http.Http2AllocationStrategy;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
+import uk.gov.justice.laa.crime.evidence.client.ClientCredentialsTokenManager;
 import uk.gov.justice.laa.crime.evidence.client.MaatDataApiClient;
+import uk.gov.justice.laa.crime.evidence.filter.AdaptiveConcurrencyLimitFilter;
+import uk.gov.justice.laa.crime.evidence.filter.DeadlineFilter;
+import uk.gov.justice.laa.crime.evidence.filter.HedgingFilter;
+import uk.gov.justice.laa.crime.evidence.filter.Resilience4jCircuitBreakerFilter;
 import uk.gov.justice.laa.crime.evidence.filter.Resilience4jRetryFilter;
+import uk.gov.justice.laa.crime.evidence.filter.RetryAfterPolicy;
+import uk.gov.justice.laa.crime.evidence.filter.RetryBudget;
 import uk.gov.justice.laa.crime.evidence.filter.WebClientFilters;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
@@ -18,10 +32,17 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.RemoveAuthorizedClientOAuth2AuthorizationFailureHandler;
+import org.springframework.security.oauth2.client.endpoint.RestClientClientCredentialsTokenResponseClient;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
-import org.springframework.security.oauth2.client.web.OAuth2AuthorizedClientRepository;
 import org.springframework.security.oauth2.client.web.reactive.function.client.ServletOAuth2AuthorizedClientExchangeFilterFunction;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestClient;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.support.WebClientAdapter;
@@ -32,22 +53,48 @@ import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 public class WebClientsConfiguration {
     public static final int MAX_IN_MEMORY_SIZE = 10485760;
     public static final String MAAT_DATA_API_WEB_CLIENT_NAME = "maatDataWebClient";
+    private static final int MAX_CONNECTIONS = 500;
 
+    /**
+     * The Reactor Netty client behind every web client, so its connection pool can also be warmed up directly.
+     */
     @Bean
-    WebClientCustomizer webClientCustomizer() {
-        ConnectionProvider provider = ConnectionProvider.builder("custom")
-                .maxConnections(500)
+    HttpClient httpClient(
+            ServicesConfiguration servicesConfiguration,
+            DnsResolverConfiguration dnsResolverConfiguration,
+            HttpProtocolConfiguration httpProtocolConfiguration) {
+        // Connections opened by MaatApiWarmUp are closed once idle for maxIdleTime, which is why the readiness probe
+        // starts and polls well within it
+        ConnectionProvider.Builder provider = ConnectionProvider.builder("custom")
+                .maxConnections(MAX_CONNECTIONS)
                 .maxIdleTime(Duration.ofSeconds(20))
                 .maxLifeTime(Duration.ofSeconds(60))
                 .evictInBackground(Duration.ofSeconds(120))
                 .pendingAcquireTimeout(Duration.ofSeconds(60))
-                .build();
+                .metrics(true);
+        if (httpProtocolConfiguration.getProtocol() != HttpProtocolConfiguration.Protocol.HTTP11) {
+            // Fills each HTTP/2 connection's streams before opening another. Connections that fall back to
+            // HTTP/1.1 carry one request at a time, under the same cap
+            provider.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(MAX_CONNECTIONS)
+                    .maxConcurrentStreams(httpProtocolConfiguration.getMaxConcurrentStreams())
+                    .build());
+        }
+
+        // Metrics include the time to resolve each connection's address. URIs are left to the
+        // http.client.requests observation, which tags them by template
+        HttpClient httpClient = HttpClient.create(provider.build())
+                .metrics(true, uri -> "/")
+                .compress(true)
+                .responseTimeout(Duration.ofSeconds(30));
+        String baseUrl = servicesConfiguration.getMaatApi().getBaseUrl();
+        return withResolver(withProtocol(httpClient, httpProtocolConfiguration, baseUrl), dnsResolverConfiguration);
+    }
 
+    @Bean
+    WebClientCustomizer webClientCustomizer(HttpClient httpClient) {
         return builder -> {
-            builder.clientConnector(new ReactorClientHttpConnector(HttpClient.create(provider)
-                    .resolver(DefaultAddressResolverGroup.INSTANCE)
-                    .compress(true)
-                    .responseTimeout(Duration.ofSeconds(30))));
+            builder.clientConnector(new ReactorClientHttpConnector(httpClient));
 
             builder.defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
             builder.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
@@ -55,26 +102,129 @@ public class WebClientsConfiguration {
         };
     }
 
+    private static HttpClient withProtocol(
+            HttpClient httpClient, HttpProtocolConfiguration configuration, String baseUrl) {
+        return switch (configuration.getProtocol()) {
+            case HTTP11 -> httpClient;
+            // Both are offered, so a server without HTTP/2 is still reached over HTTP/1.1. ALPN needs TLS, so a
+            // plain http base URL is offered cleartext HTTP/2 instead
+            case H2 ->
+                "https".equalsIgnoreCase(URI.create(baseUrl).getScheme())
+                        ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure()
+                        : httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+            case H2C -> httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        };
+    }
+
+    private static HttpClient withResolver(HttpClient httpClient, DnsResolverConfiguration configuration) {
+        if (configuration.getMode() == DnsResolverConfiguration.Mode.BLOCKING) {
+            return httpClient.resolver(DefaultAddressResolverGroup.INSTANCE);
+        }
+        return httpClient.resolver(spec -> spec.cacheMinTimeToLive(configuration.getCacheMinTimeToLive())
+                .cacheMaxTimeToLive(configuration.getCacheMaxTimeToLive())
+                .cacheNegativeTimeToLive(configuration.getCacheNegativeTimeToLive())
+                .queryTimeout(configuration.getQueryTimeout()));
+    }
+
     @Bean(MAAT_DATA_API_WEB_CLIENT_NAME)
     WebClient maatDataWebClient(
             WebClient.Builder webClientBuilder,
             ServicesConfiguration servicesConfiguration,
-            ClientRegistrationRepository clientRegistrations,
-            OAuth2AuthorizedClientRepository authorizedClients,
-            RetryRegistry retryRegistry) {
+            ClientCredentialsTokenManager maatApiTokenManager,
+            RetryRegistry retryRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            HedgingConfiguration hedgingConfiguration,
+            RetryBudgetConfiguration retryBudgetConfiguration,
+            RetryAfterConfiguration retryAfterConfiguration,
+            RequestDeadlineConfiguration requestDeadlineConfiguration,
+            ConcurrencyLimitConfiguration concurrencyLimitConfiguration,
+            MeterRegistry meterRegistry) {
         ServletOAuth2AuthorizedClientExchangeFilterFunction oauthFilter =
-                new ServletOAuth2AuthorizedClientExchangeFilterFunction(clientRegistrations, authorizedClients);
+                new ServletOAuth2AuthorizedClientExchangeFilterFunction(maatApiTokenManager);
         oauthFilter.setDefaultClientRegistrationId(
                 servicesConfiguration.getMaatApi().getRegistrationId());
+        // A token the MAAT API rejects, e.g. after a key rotation, is dropped rather than used until it expires
+        oauthFilter.setAuthorizationFailureHandler(new RemoveAuthorizedClientOAuth2AuthorizationFailureHandler(
+                (clientRegistrationId, principal, attributes) -> maatApiTokenManager.invalidate(),
+                Set.of(
+                        OAuth2ErrorCodes.INVALID_TOKEN,
+                        OAuth2ErrorCodes.INSUFFICIENT_SCOPE,
+                        OAuth2ErrorCodes.INVALID_GRANT,
+                        OAuth2ErrorCodes.INVALID_CLIENT)));
 
-        Resilience4jRetryFilter retryFilter = new Resilience4jRetryFilter(retryRegistry, MAAT_DATA_API_WEB_CLIENT_NAME);
+        RetryBudget retryBudget = retryBudgetConfiguration.isEnabled()
+                ? new RetryBudget(retryBudgetConfiguration, meterRegistry, MAAT_DATA_API_WEB_CLIENT_NAME)
+                : null;
+        RetryAfterPolicy retryAfterPolicy = retryAfterConfiguration.isEnabled()
+                ? new RetryAfterPolicy(retryAfterConfiguration, meterRegistry, MAAT_DATA_API_WEB_CLIENT_NAME)
+                : null;
+        Resilience4jRetryFilter retryFilter = new Resilience4jRetryFilter(
+                retryRegistry, MAAT_DATA_API_WEB_CLIENT_NAME, retryBudget, retryAfterPolicy);
+        Resilience4jCircuitBreakerFilter circuitBreakerFilter = new Resilience4jCircuitBreakerFilter(
+                circuitBreakerRegistry,
+                bulkheadRegistry,
+                MAAT_DATA_API_WEB_CLIENT_NAME,
+                servicesConfiguration.getMaatApi().getBaseUrl());
 
         return webClientBuilder
                 .baseUrl(servicesConfiguration.getMaatApi().getBaseUrl())
-                .filters(filters -> configureFilters(filters, oauthFilter, retryFilter))
+                .filters(filters -> {
+                    configureFilters(filters, oauthFilter, circuitBreakerFilter, retryFilter);
+                    if (requestDeadlineConfiguration.isEnabled()) {
+                        // Outermost, so the deadline bounds the circuit breaker's wait, the retries and their backoff
+                        filters.add(
+                                filters.indexOf(circuitBreakerFilter),
+                                new DeadlineFilter(meterRegistry, MAAT_DATA_API_WEB_CLIENT_NAME));
+                    }
+                    if (hedgingConfiguration.isEnabled()) {
+                        // Each hedged attempt needs its own token and error handling, so hedge ahead of OAuth
+                        HedgingFilter hedgingFilter = new HedgingFilter(
+                                hedgingConfiguration,
+                                meterRegistry,
+                                servicesConfiguration.getMaatApi().getBaseUrl());
+                        filters.add(filters.indexOf(oauthFilter), hedgingFilter);
+                    }
+                    if (concurrencyLimitConfiguration.isEnabled()) {
+                        // Innermost, so each attempt and hedge takes a slot and only MAAT's own latency is measured
+                        filters.add(new AdaptiveConcurrencyLimitFilter(
+                                concurrencyLimitConfiguration, meterRegistry, MAAT_DATA_API_WEB_CLIENT_NAME));
+                    }
+                })
                 .build();
     }
 
+    /**
+     * One access token shared by every MAAT API call, on or off request threads, replaced in the background.
+     */
+    @Bean
+    ClientCredentialsTokenManager maatApiTokenManager(
+            ServicesConfiguration servicesConfiguration,
+            ClientRegistrationRepository clientRegistrations,
+            MaatApiTokenConfiguration tokenConfiguration,
+            MeterRegistry meterRegistry) {
+        // Every MAAT API call needs the token, so a hung token endpoint must not hold them up indefinitely
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(tokenConfiguration.getConnectTimeout());
+        requestFactory.setReadTimeout(tokenConfiguration.getReadTimeout());
+        RestClientClientCredentialsTokenResponseClient tokenResponseClient =
+                new RestClientClientCredentialsTokenResponseClient();
+        tokenResponseClient.setRestClient(RestClient.builder()
+                .requestFactory(requestFactory)
+                .messageConverters(converters -> {
+                    converters.clear();
+                    converters.add(new FormHttpMessageConverter());
+                    converters.add(new OAuth2AccessTokenResponseHttpMessageConverter());
+                })
+                .defaultStatusHandler(new OAuth2ErrorResponseErrorHandler())
+                .build());
+        return new ClientCredentialsTokenManager(
+                clientRegistrations.findByRegistrationId(servicesConfiguration.getMaatApi().getRegistrationId()),
+                tokenResponseClient,
+                tokenConfiguration,
+                meterRegistry);
+    }
+
     @Bean
     MaatDataApiClient maatDataApiClient(@Qualifier(MAAT_DATA_API_WEB_CLIENT_NAME) WebClient maatDataWebClient) {
         HttpServiceProxyFactory httpServiceProxyFactory = HttpServiceProxyFactory.builderFor(
@@ -86,8 +236,11 @@ public class WebClientsConfiguration {
     private void configureFilters(
             List<ExchangeFilterFunction> filters,
             ServletOAuth2AuthorizedClientExchangeFilterFunction oauthFilter,
+            ExchangeFilterFunction circuitBreakerFilter,
             ExchangeFilterFunction retryFilter) {
         filters.add(WebClientFilters.logRequestHeaders());
+        // Outside the retries, so an open circuit fails the call at once and a retried call counts once
+        filters.add(circuitBreakerFilter);
         filters.add(retryFilter);
         filters.add(oauthFilter);
         filters.add(WebClientFilters.errorResponseHandler());
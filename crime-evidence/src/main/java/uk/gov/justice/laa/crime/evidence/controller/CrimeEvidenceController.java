@@ -15,6 +15,7 @@ import uk.gov.justice.laa.crime.evidence.builder.CrimeEvidenceDTOBuilder;
 import uk.gov.justice.laa.crime.evidence.dto.CrimeEvidenceDTO;
 import uk.gov.justice.laa.crime.evidence.dto.ErrorDTO;
 import uk.gov.justice.laa.crime.evidence.service.EvidenceService;
+import uk.gov.justice.laa.crime.evidence.service.StaleWhileRevalidate;
 
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -65,7 +66,13 @@ public class CrimeEvidenceController {
                     @RequestBody
                     ApiCalculateEvidenceFeeRequest request) {
         CrimeEvidenceDTO requestDTO = preProcessRequest(request);
-        return ResponseEntity.ok(evidenceService.calculateEvidenceFee(requestDTO));
+        StaleWhileRevalidate.Lookup<ApiCalculateEvidenceFeeResponse> lookup =
+                evidenceService.lookUpEvidenceFee(requestDTO);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (lookup.stale()) {
+            response.header(StaleWhileRevalidate.STALE_HEADER, "true");
+        }
+        return response.body(lookup.value());
     }
 
     private CrimeEvidenceDTO preProcessRequest(ApiCalculateEvidenceFeeRequest request) {
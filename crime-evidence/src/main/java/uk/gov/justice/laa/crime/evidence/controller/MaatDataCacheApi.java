@@ -0,0 +1,15 @@
+package uk.gov.justice.laa.crime.evidence.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import uk.gov.justice.laa.crime.annotation.DefaultHTTPErrorResponse;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+
+public interface MaatDataCacheApi {
+    @Operation(description = "Evict the cached capital asset count for a rep order")
+    @ApiResponse(responseCode = "204", description = "Cached capital asset count evicted")
+    @DefaultHTTPErrorResponse
+    ResponseEntity<Void> evictCapitalAssetCount(@PathVariable int repId);
+}
@@ -0,0 +1,26 @@
+package uk.gov.justice.laa.crime.evidence.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import uk.gov.justice.laa.crime.evidence.service.MaatDataService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/internal/v1/evidence/cache")
+@Tag(name = "MAAT Data Cache", description = "Rest API for evicting cached MAAT data")
+public class MaatDataCacheController implements MaatDataCacheApi {
+
+    private final MaatDataService maatDataService;
+
+    @DeleteMapping(path = "/capital-asset-count/{repId}")
+    public ResponseEntity<Void> evictCapitalAssetCount(@PathVariable int repId) {
+        maatDataService.evictCapitalAssetCount(repId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import uk.gov.justice.laa.crime.common.model.evidence.ApiGetPassportEvidenceResponse;
 import uk.gov.justice.laa.crime.evidence.service.PassportEvidenceService;
+import uk.gov.justice.laa.crime.evidence.service.StaleWhileRevalidate;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +22,12 @@ public class PassportEvidenceController implements PassportEvidenceApi {
 
     @GetMapping(path = "/{passportAssessmentId}")
     public ResponseEntity<ApiGetPassportEvidenceResponse> find(@PathVariable int passportAssessmentId) {
-        return ResponseEntity.ok(passportEvidenceService.getPassportEvidence(passportAssessmentId));
+        StaleWhileRevalidate.Lookup<ApiGetPassportEvidenceResponse> lookup =
+                passportEvidenceService.lookUpPassportEvidence(passportAssessmentId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (lookup.stale()) {
+            response.header(StaleWhileRevalidate.STALE_HEADER, "true");
+        }
+        return response.body(lookup.value());
     }
 }
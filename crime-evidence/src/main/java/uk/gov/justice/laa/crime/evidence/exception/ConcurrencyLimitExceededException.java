@@ -0,0 +1,8 @@
+package uk.gov.justice.laa.crime.evidence.exception;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.justice.laa.crime.evidence.exception;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.evidence.dto.ErrorDTO;
@@ -46,6 +48,21 @@ public class CrimeEvidenceExceptionHandler {
                 HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage(), traceIdHandler.getTraceId());
     }
 
+    @ExceptionHandler({
+        CallNotPermittedException.class,
+        BulkheadFullException.class,
+        ConcurrencyLimitExceededException.class
+    })
+    public ResponseEntity<ErrorDTO> handleDownstreamUnavailable(RuntimeException exception) {
+        return buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage(), traceIdHandler.getTraceId());
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorDTO> handleDeadlineExceededException(DeadlineExceededException exception) {
+        return buildErrorResponse(HttpStatus.GATEWAY_TIMEOUT, exception.getMessage(), traceIdHandler.getTraceId());
+    }
+
     @ExceptionHandler(CrimeEvidenceDataException.class)
     public ResponseEntity<ErrorDTO> handleCrimeEvidenceDataException(CrimeEvidenceDataException ex) {
         log.error("CrimeEvidenceDataException: ", ex);
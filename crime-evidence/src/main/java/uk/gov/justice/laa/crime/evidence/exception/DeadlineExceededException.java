@@ -0,0 +1,8 @@
+package uk.gov.justice.laa.crime.evidence.exception;
+
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,108 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.evidence.config.ConcurrencyLimitConfiguration;
+import uk.gov.justice.laa.crime.evidence.exception.ConcurrencyLimitExceededException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Caps the requests in flight to a downstream service with a limit that follows its latency (AIMD). While requests
+ * are answered within the latency threshold and at least half the limit is in use, the limit grows by one per
+ * response. Each response slower than the threshold, each 429 or 5xx, and each failure to get a response multiply
+ * it by the backoff ratio. A request beyond the limit fails at once with a
+ * {@link ConcurrencyLimitExceededException} rather than queueing for a connection.
+ * <p>
+ * The limit and requests in flight are gauged in {@code maat.api.concurrency.limit} and
+ * {@code maat.api.concurrency.in.flight}, and rejections counted in {@code maat.api.concurrency.rejected}, all
+ * tagged with the client.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimitFilter implements ExchangeFilterFunction {
+
+    private final ConcurrencyLimitConfiguration configuration;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+
+    public AdaptiveConcurrencyLimitFilter(
+            ConcurrencyLimitConfiguration configuration, MeterRegistry meterRegistry, String clientName) {
+        this.configuration = configuration;
+        this.latencyThresholdNanos = configuration.getLatencyThreshold().toNanos();
+        this.limit = new AtomicInteger(Math.clamp(
+                configuration.getInitialLimit(), configuration.getMinimumLimit(), configuration.getMaximumLimit()));
+        Gauge.builder("maat.api.concurrency.limit", limit, AtomicInteger::get)
+                .description("The current limit on requests in flight")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        Gauge.builder("maat.api.concurrency.in.flight", inFlight, AtomicInteger::get)
+                .description("Requests currently in flight")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("maat.api.concurrency.rejected")
+                .description("Requests rejected for exceeding the limit on requests in flight")
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        return Mono.defer(() -> {
+            int currentLimit = limit.get();
+            if (inFlight.incrementAndGet() > currentLimit) {
+                inFlight.decrementAndGet();
+                rejected.increment();
+                log.warn("🚦 {} requests in flight, rejecting {} {}", currentLimit, request.method(), request.url());
+                return Mono.error(new ConcurrencyLimitExceededException(
+                        "Concurrency limit of " + currentLimit + " reached calling " + request.url().getPath()));
+            }
+            long start = System.nanoTime();
+            AtomicBoolean released = new AtomicBoolean();
+            return next.exchange(request)
+                    .doOnNext(response -> release(released, start, isOverloaded(response)))
+                    .doOnError(error -> release(released, start, true))
+                    .doFinally(signal -> {
+                        // Cancelled, for instance by a hedge or a deadline, so there is no latency to learn from
+                        if (released.compareAndSet(false, true)) {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+        });
+    }
+
+    int limit() {
+        return limit.get();
+    }
+
+    private static boolean isOverloaded(ClientResponse response) {
+        return response.statusCode().is5xxServerError()
+                || response.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private void release(AtomicBoolean released, long start, boolean overloaded) {
+        if (!released.compareAndSet(false, true)) {
+            return;
+        }
+        int wasInFlight = inFlight.getAndDecrement();
+        boolean slow = System.nanoTime() - start > latencyThresholdNanos;
+        if (overloaded || slow) {
+            limit.updateAndGet(current -> Math.max(
+                    configuration.getMinimumLimit(), (int) (current * configuration.getBackoffRatio())));
+        } else if (wasInFlight * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(configuration.getMaximumLimit(), current + 1));
+        }
+    }
+}
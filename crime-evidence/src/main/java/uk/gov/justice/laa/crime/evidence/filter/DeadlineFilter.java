@@ -0,0 +1,61 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.evidence.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Bounds a call, retries and backoff included, by the {@link RequestDeadline} of the inbound request it is made for.
+ * A call whose deadline has already passed is not sent, and one still running at the deadline is cancelled, so no
+ * further attempts are made for a caller that has given up. Either way a {@link DeadlineExceededException} is raised
+ * and counted in {@code maat.api.deadline.exceeded}. Calls made outside an inbound request are not bounded.
+ * <p>
+ * Calls coalesced by {@link uk.gov.justice.laa.crime.evidence.common.SingleFlight} are made once, for the first
+ * caller, so they are bounded by that caller's deadline. Callers that join one get its outcome, which may be a
+ * {@link DeadlineExceededException} while they still had time left, or a response after their own deadline passed.
+ */
+@Slf4j
+public class DeadlineFilter implements ExchangeFilterFunction {
+
+    private final Counter exceeded;
+
+    public DeadlineFilter(MeterRegistry meterRegistry, String clientName) {
+        this.exceeded = Counter.builder("maat.api.deadline.exceeded")
+                .description("Calls failed because the inbound request's deadline had passed")
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        // Read here rather than on subscription, as only the calling thread is bound to the inbound request
+        Optional<Instant> deadline = RequestDeadline.current();
+        if (deadline.isEmpty()) {
+            return next.exchange(request);
+        }
+        Duration remaining = Duration.between(Instant.now(), deadline.get());
+        if (remaining.isNegative() || remaining.isZero()) {
+            return exceeded(request);
+        }
+        return next.exchange(request).timeout(remaining, Mono.defer(() -> exceeded(request)));
+    }
+
+    private Mono<ClientResponse> exceeded(ClientRequest request) {
+        exceeded.increment();
+        log.warn("⌛ Deadline passed, abandoning {} {}", request.method(), request.url());
+        return Mono.error(new DeadlineExceededException(
+                "Deadline exceeded calling " + request.method() + " " + request.url().getPath()));
+    }
+}
@@ -0,0 +1,189 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import uk.gov.justice.laa.crime.evidence.config.HedgingConfiguration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Hedges slow idempotent GETs: if the first attempt has not answered within the hedge delay, an identical second
+ * request is sent and whichever answers first is used, the other being cancelled. An attempt that fails leaves the
+ * other to answer, so the call only fails when both attempts do, with the first attempt's error.
+ * <p>
+ * Only GETs whose URI template, relative to the client's base URL, is listed in
+ * {@link HedgingConfiguration#getUriTemplates()} are hedged. The delay is either fixed or follows a percentile of
+ * recently observed first-attempt latencies, including attempts that failed or were cancelled. Each hedgeable
+ * request earns {@code budgetPercent} of a hedge, with at most {@value #MAXIMUM_BURST} saved up, so hedging can
+ * never add more than that share of extra load. Hedges sent, won and skipped for lack of budget are counted in
+ * {@code maat.api.hedges}.
+ */
+@Slf4j
+public class HedgingFilter implements ExchangeFilterFunction {
+
+    private static final long CREDITS_PER_HEDGE = 1_000;
+    private static final int MAXIMUM_BURST = 10;
+
+    private final HedgingConfiguration configuration;
+    private final String baseUrl;
+    private final Set<String> uriTemplates;
+    private final long creditsPerRequest;
+    private final AtomicLong credits = new AtomicLong();
+    private final LatencyWindow latencies = new LatencyWindow();
+    private final Counter sent;
+    private final Counter won;
+    private final Counter budgetExhausted;
+
+    public HedgingFilter(HedgingConfiguration configuration, MeterRegistry meterRegistry, String baseUrl) {
+        this.configuration = configuration;
+        this.baseUrl = baseUrl;
+        this.uriTemplates = Set.copyOf(configuration.getUriTemplates());
+        this.creditsPerRequest = Math.round(configuration.getBudgetPercent() / 100 * CREDITS_PER_HEDGE);
+        this.sent = counter(meterRegistry, "sent");
+        this.won = counter(meterRegistry, "won");
+        this.budgetExhausted = counter(meterRegistry, "budget_exhausted");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("maat.api.hedges")
+                .description("Hedged MAAT API requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        if (!isHedgeable(request)) {
+            return next.exchange(request);
+        }
+        earnCredit();
+
+        // A failed first attempt calls off a hedge not yet sent, and its error is the one returned if both fail
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        Sinks.One<Boolean> firstFailed = Sinks.one();
+        AtomicBoolean answered = new AtomicBoolean();
+        Mono<ClientResponse> first = Mono.defer(() -> {
+            long start = System.nanoTime();
+            // Sampled however the attempt ends, so slow attempts cancelled by a winning hedge still count
+            return next.exchange(request)
+                    .flatMap(response -> claim(answered, response))
+                    .doOnError(e -> {
+                        firstError.set(e);
+                        firstFailed.tryEmitValue(true);
+                    })
+                    .doFinally(signal -> latencies.record(System.nanoTime() - start));
+        });
+        Mono<ClientResponse> hedge = Mono.delay(hedgeDelay())
+                .takeUntilOther(firstFailed.asMono())
+                .flatMap(tick -> {
+                    if (!spendCredit()) {
+                        budgetExhausted.increment();
+                        return Mono.empty();
+                    }
+                    sent.increment();
+                    log.debug("Hedging {} {}", request.method(), request.url());
+                    return next.exchange(request)
+                            .flatMap(response -> claim(answered, response))
+                            .doOnNext(response -> won.increment());
+                });
+        // Settles on the first response, so a fast failure of one attempt cannot cancel the other
+        return Mono.firstWithValue(first, hedge)
+                .onErrorMap(NoSuchElementException.class, e -> firstError.get() != null ? firstError.get() : e);
+    }
+
+    /**
+     * Passes on the first response to arrive. Both attempts can answer before the loser is cancelled, so a later
+     * response has its body released, freeing its connection, and is dropped.
+     */
+    static Mono<ClientResponse> claim(AtomicBoolean answered, ClientResponse response) {
+        if (answered.compareAndSet(false, true)) {
+            return Mono.just(response);
+        }
+        return response.releaseBody().then(Mono.empty());
+    }
+
+    private boolean isHedgeable(ClientRequest request) {
+        return HttpMethod.GET.equals(request.method())
+                && UriTemplates.relativeTemplate(request, baseUrl)
+                        .filter(uriTemplates::contains)
+                        .isPresent();
+    }
+
+    Duration hedgeDelay() {
+        Double percentile = configuration.getPercentile();
+        if (percentile == null || !latencies.isWarm()) {
+            return configuration.getDelay();
+        }
+        Duration observed = Duration.ofNanos(latencies.percentile(percentile));
+        return observed.compareTo(configuration.getMinimumDelay()) < 0 ? configuration.getMinimumDelay() : observed;
+    }
+
+    private void earnCredit() {
+        credits.getAndUpdate(current -> Math.min(current + creditsPerRequest, MAXIMUM_BURST * CREDITS_PER_HEDGE));
+    }
+
+    private boolean spendCredit() {
+        long current;
+        do {
+            current = credits.get();
+            if (current < CREDITS_PER_HEDGE) {
+                return false;
+            }
+        } while (!credits.compareAndSet(current, current - CREDITS_PER_HEDGE));
+        return true;
+    }
+
+    /**
+     * The most recent first-attempt latencies, in a fixed ring. Percentiles are recomputed every
+     * {@value #RECOMPUTE_EVERY} samples rather than per request.
+     */
+    private static final class LatencyWindow {
+
+        private static final int SIZE = 256;
+        private static final int RECOMPUTE_EVERY = 32;
+
+        private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+        private final AtomicLong recorded = new AtomicLong();
+        private volatile long[] sorted = new long[0];
+
+        void record(long nanos) {
+            long count = recorded.getAndIncrement();
+            samples.set((int) (count % SIZE), nanos);
+            if ((count + 1) % RECOMPUTE_EVERY == 0) {
+                long[] snapshot = new long[(int) Math.min(count + 1, SIZE)];
+                for (int i = 0; i < snapshot.length; i++) {
+                    snapshot[i] = samples.get(i);
+                }
+                Arrays.sort(snapshot);
+                sorted = snapshot;
+            }
+        }
+
+        boolean isWarm() {
+            return sorted.length > 0;
+        }
+
+        long percentile(double percentile) {
+            long[] current = sorted;
+            int index = (int) Math.ceil(percentile * current.length) - 1;
+            return current[Math.clamp(index, 0, current.length - 1)];
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * The instant by which the inbound request being served must be answered, held as a request attribute.
+ */
+public final class RequestDeadline {
+
+    static final String ATTRIBUTE = RequestDeadline.class.getName();
+
+    private RequestDeadline() {}
+
+    static void set(HttpServletRequest request, Instant deadline) {
+        request.setAttribute(ATTRIBUTE, deadline);
+    }
+
+    /**
+     * The deadline of the request bound to the current thread, if there is one.
+     */
+    public static Optional<Instant> current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((Instant) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -0,0 +1,63 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.evidence.config.RequestDeadlineConfiguration;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Gives each inbound request a {@link RequestDeadline}. The budget is the endpoint's own, or the default, shortened
+ * to the caller's remaining budget when it sends a positive one, in milliseconds, in the configured header.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final RequestDeadlineConfiguration configuration;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain chain)
+            throws ServletException, IOException {
+        RequestDeadline.set(request, Instant.now().plus(timeout(request)));
+        chain.doFilter(request, response);
+    }
+
+    Duration timeout(HttpServletRequest request) {
+        Duration timeout = configuration.getEndpoints().entrySet().stream()
+                .filter(endpoint -> pathMatcher.match(endpoint.getKey(), request.getRequestURI()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(configuration.getDefaultTimeout());
+
+        String requested = request.getHeader(configuration.getHeader());
+        if (requested != null) {
+            try {
+                Duration callerTimeout = Duration.ofMillis(Long.parseLong(requested.trim()));
+                // A budget already spent would fail every downstream call at once, so it is ignored like one that
+                // cannot be read
+                if (!callerTimeout.isPositive()) {
+                    log.debug("Ignoring non-positive {}: {}", configuration.getHeader(), requested);
+                } else if (callerTimeout.compareTo(timeout) < 0) {
+                    timeout = callerTimeout;
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring unparseable {}: {}", configuration.getHeader(), requested);
+            }
+        }
+        return timeout;
+    }
+}
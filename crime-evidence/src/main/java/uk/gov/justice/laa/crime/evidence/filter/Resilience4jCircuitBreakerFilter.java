@@ -0,0 +1,106 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Wraps each call in a circuit breaker and a semaphore bulkhead, so calls fail fast while the downstream service is
+ * unhealthy instead of queueing behind the response timeout and retries.
+ * <p>
+ * Each operation gets its own instances, named {@code <client>-<operation>}, where the operation is the request's
+ * URI template relative to the client's base URL with the variables removed, e.g.
+ * {@code maatDataWebClient-rep-orders-capital-assets-count}.
+ * Instances configured under {@code resilience4j.circuitbreaker.instances} and
+ * {@code resilience4j.bulkhead.instances} with that name are used as configured; any other operation gets the
+ * default configuration.
+ * <p>
+ * The bulkhead sits outside the circuit breaker, so a {@link io.github.resilience4j.bulkhead.BulkheadFullException}
+ * is deliberately ignored by the circuit breaker: a rejection says this service is saturated, not that the
+ * downstream service is failing, and the call never reaches it. It is neither recorded as a failure nor, with
+ * {@code record-exceptions} configured, as a success, and does not use up a half-open trial call.
+ */
+@Slf4j
+public class Resilience4jCircuitBreakerFilter implements ExchangeFilterFunction {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final String clientName;
+    private final String baseUrl;
+    private final Map<String, OperationGuard> guards = new ConcurrentHashMap<>();
+
+    public Resilience4jCircuitBreakerFilter(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            String clientName,
+            String baseUrl) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.clientName = clientName;
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        OperationGuard guard = guards.computeIfAbsent(instanceName(request), this::createGuard);
+        return next.exchange(request)
+                .transformDeferred(CircuitBreakerOperator.of(guard.circuitBreaker()))
+                .transformDeferred(BulkheadOperator.of(guard.bulkhead()));
+    }
+
+    String instanceName(ClientRequest request) {
+        return UriTemplates.relativeTemplate(request, baseUrl)
+                .map(Resilience4jCircuitBreakerFilter::operationName)
+                .filter(operation -> !operation.isEmpty())
+                .map(operation -> clientName + "-" + operation)
+                .orElse(clientName);
+    }
+
+    static String operationName(String uriTemplate) {
+        String path = uriTemplate.split("\\?", 2)[0];
+        int schemeEnd = path.indexOf("://");
+        if (schemeEnd >= 0) {
+            int pathStart = path.indexOf('/', schemeEnd + 3);
+            path = pathStart >= 0 ? path.substring(pathStart) : "";
+        }
+        return Arrays.stream(path.split("/"))
+                .filter(segment -> !segment.isEmpty() && !segment.contains("{"))
+                .collect(Collectors.joining("-"));
+    }
+
+    private OperationGuard createGuard(String instanceName) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(instanceName);
+        circuitBreaker
+                .getEventPublisher()
+                .onStateTransition(event -> log.warn(
+                        "⚡ Circuit breaker {} moved from {} to {}",
+                        instanceName,
+                        event.getStateTransition().getFromState(),
+                        event.getStateTransition().getToState()))
+                .onCallNotPermitted(event -> log.debug("⛔ Circuit breaker {} rejected a call", instanceName));
+
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(instanceName);
+        bulkhead.getEventPublisher()
+                .onCallRejected(event -> log.warn("⛔ Bulkhead {} is full, rejected a call", instanceName));
+
+        return new OperationGuard(circuitBreaker, bulkhead);
+    }
+
+    private record OperationGuard(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {}
+}
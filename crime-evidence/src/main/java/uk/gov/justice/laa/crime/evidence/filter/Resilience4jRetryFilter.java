@@ -2,11 +2,13 @@ package uk.gov.justice.laa.crime.evidence.filter;
 
 import io.github.resilience4j.reactor.retry.RetryOperator;
 import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.NonNull;
@@ -18,14 +20,56 @@ import org.springframework.web.reactive.function.client.ExchangeFunction;
 @Slf4j
 public class Resilience4jRetryFilter implements ExchangeFilterFunction {
     private final Retry retry;
+    private final RetryBudget retryBudget;
+    private final RetryAfterPolicy retryAfterPolicy;
     private static final String DEFAULT_RETRY = "default";
 
     public Resilience4jRetryFilter(RetryRegistry retryRegistry, String clientName) {
+        this(retryRegistry, clientName, null, null);
+    }
+
+    /**
+     * When a {@link RetryBudget} is given, a retryable failure is only retried while the budget has a token to
+     * spend; otherwise the call fails at once with that failure. Every successful call pays into the budget.
+     */
+    public Resilience4jRetryFilter(RetryRegistry retryRegistry, String clientName, RetryBudget retryBudget) {
+        this(retryRegistry, clientName, retryBudget, null);
+    }
+
+    /**
+     * When a {@link RetryAfterPolicy} is given, retries back off with full jitter and honour any Retry-After sent
+     * with a 429 or 503, and every call on the client is held while the downstream service signals overload.
+     */
+    public Resilience4jRetryFilter(
+            RetryRegistry retryRegistry,
+            String clientName,
+            RetryBudget retryBudget,
+            RetryAfterPolicy retryAfterPolicy) {
         Set<String> availableRetries =
                 retryRegistry.getAllRetries().stream().map(Retry::getName).collect(Collectors.toSet());
 
         String retryName = availableRetries.contains(clientName) ? clientName : DEFAULT_RETRY;
-        retry = retryRegistry.retry(retryName);
+        Retry configuredRetry = retryRegistry.retry(retryName);
+        this.retryBudget = retryBudget;
+        this.retryAfterPolicy = retryAfterPolicy;
+        if (retryBudget != null || retryAfterPolicy != null) {
+            // Registered under the client's own name, so the registry's retry metrics follow the customised
+            // instance while the shared default retry, which other clients may use, is left untouched
+            RetryConfig customised = customise(configuredRetry.getRetryConfig(), retryBudget, retryAfterPolicy);
+            if (availableRetries.contains(clientName)) {
+                retry = Retry.of(clientName, customised);
+                retryRegistry.replace(clientName, retry);
+            } else {
+                retry = retryRegistry.retry(clientName, customised);
+            }
+            if (retryBudget != null) {
+                // The exception predicate runs before the attempt limit is checked, so a retryable failure on the
+                // last attempt takes a token for a retry that never happens
+                retry.getEventPublisher().onError(event -> retryBudget.refund());
+            }
+        } else {
+            retry = configuredRetry;
+        }
 
         retry.getEventPublisher()
                 .onSuccess(event -> log.info("✅ Request succeeded after {} attempts", event.getNumberOfRetryAttempts()))
@@ -37,8 +81,41 @@ public class Resilience4jRetryFilter implements ExchangeFilterFunction {
                         "🚨 Request failed after {} retry attempts. Giving up.", event.getNumberOfRetryAttempts()));
     }
 
+    private static RetryConfig customise(
+            RetryConfig retryConfig, RetryBudget retryBudget, RetryAfterPolicy retryAfterPolicy) {
+        Predicate<Throwable> retryable = retryConfig.getExceptionPredicate();
+        RetryConfig.Builder<Object> builder = RetryConfig.from(retryConfig);
+        if (retryAfterPolicy != null) {
+            // Checked ahead of the budget, so a Retry-After beyond the ceiling does not spend a token
+            retryable = retryAfterPolicy.retryable(retryable);
+            builder.intervalBiFunction(retryAfterPolicy.interval(retryConfig.<Object>getIntervalBiFunction()));
+        }
+        return builder.retryExceptions()
+                .retryOnException(retryBudget != null ? withBudget(retryable, retryBudget) : retryable)
+                .build();
+    }
+
+    private static Predicate<Throwable> withBudget(Predicate<Throwable> retryable, RetryBudget retryBudget) {
+        return throwable -> {
+            if (!retryable.test(throwable)) {
+                return false;
+            }
+            if (!retryBudget.tryAcquire()) {
+                log.warn("⛔ Retry budget spent, not retrying {}", throwable.getClass().getSimpleName());
+                return false;
+            }
+            return true;
+        };
+    }
+
     @Override
     public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
-        return next.exchange(request).transformDeferred(RetryOperator.of(retry));
+        Mono<ClientResponse> attempt = next.exchange(request);
+        if (retryAfterPolicy != null) {
+            // Inside the retry operator, so every attempt, retries included, waits out a pause
+            attempt = retryAfterPolicy.awaitPause(attempt).doOnError(retryAfterPolicy::recordResponse);
+        }
+        Mono<ClientResponse> response = attempt.transformDeferred(RetryOperator.of(retry));
+        return retryBudget != null ? response.doOnNext(clientResponse -> retryBudget.recordSuccess()) : response;
     }
 }
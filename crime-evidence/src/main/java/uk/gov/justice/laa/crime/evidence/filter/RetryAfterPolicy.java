@@ -0,0 +1,119 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import io.github.resilience4j.core.IntervalBiFunction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.evidence.config.RetryAfterConfiguration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * How {@link Resilience4jRetryFilter} reacts to a downstream service signalling overload with 429 Too Many Requests
+ * or 503 Service Unavailable.
+ * <ul>
+ *   <li>Retries wait a random time between zero and the configured backoff (full jitter), so replicas that failed
+ *   together do not retry together. A Retry-After is honoured as the minimum wait, with the jitter added on top.
+ *   <li>No wait exceeds the ceiling; a Retry-After beyond it fails the call instead of retrying.
+ *   <li>Every call on the client, not just the retried one, is held until the Retry-After has passed, up to the
+ *   maximum pause. Pauses are counted in {@code maat.api.overload.pauses}.
+ * </ul>
+ */
+@Slf4j
+public class RetryAfterPolicy {
+
+    private final RetryAfterConfiguration configuration;
+    private final AtomicLong pausedUntil = new AtomicLong(System.nanoTime());
+    private final Counter pauses;
+
+    public RetryAfterPolicy(RetryAfterConfiguration configuration, MeterRegistry meterRegistry, String clientName) {
+        this.configuration = configuration;
+        this.pauses = Counter.builder("maat.api.overload.pauses")
+                .description("Client-wide pauses after the downstream service signalled overload")
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    public Predicate<Throwable> retryable(Predicate<Throwable> retryable) {
+        return throwable -> retryable.test(throwable)
+                && retryAfter(throwable)
+                        .map(retryAfter -> retryAfter.compareTo(configuration.getCeiling()) <= 0)
+                        .orElse(true);
+    }
+
+    public <T> IntervalBiFunction<T> interval(IntervalBiFunction<T> backoff) {
+        long ceiling = configuration.getCeiling().toMillis();
+        return (attempt, result) -> {
+            long jitter = ThreadLocalRandom.current().nextLong(Math.min(backoff.apply(attempt, result), ceiling) + 1);
+            long retryAfter = result.isLeft()
+                    ? retryAfter(result.getLeft()).map(Duration::toMillis).orElse(0L)
+                    : 0L;
+            return Math.min(retryAfter + jitter, ceiling);
+        };
+    }
+
+    public Mono<ClientResponse> awaitPause(Mono<ClientResponse> call) {
+        return Mono.defer(() -> {
+            long remaining = pausedUntil.get() - System.nanoTime();
+            return remaining > 0 ? Mono.delay(Duration.ofNanos(remaining)).then(call) : call;
+        });
+    }
+
+    public void recordResponse(Throwable throwable) {
+        if (!isOverload(throwable)) {
+            return;
+        }
+        Duration pause = retryAfter(throwable).orElse(configuration.getDefaultPause());
+        if (pause.compareTo(configuration.getMaximumPause()) > 0) {
+            pause = configuration.getMaximumPause();
+        }
+        long until = System.nanoTime() + pause.toNanos();
+        if (pausedUntil.getAndAccumulate(until, (current, next) -> next - current > 0 ? next : current) - until < 0) {
+            pauses.increment();
+            log.warn("⏸️ Downstream service overloaded, holding calls for {}ms", pause.toMillis());
+        }
+    }
+
+    private static boolean isOverload(Throwable throwable) {
+        return throwable instanceof WebClientResponseException exception
+                && (exception.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                        || exception.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    static Optional<Duration> retryAfter(Throwable throwable) {
+        if (!isOverload(throwable)) {
+            return Optional.empty();
+        }
+        String value = ((WebClientResponseException) throwable).getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, so it should be an HTTP date
+        }
+        try {
+            Instant date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration untilDate = Duration.between(Instant.now(), date);
+            return Optional.of(untilDate.isNegative() ? Duration.ZERO : untilDate);
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring unparseable Retry-After: {}", value);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.justice.laa.crime.evidence.config.RetryBudgetConfiguration;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket shared by every call on a web client. Each successful call deposits {@code ratio} of a token and
+ * each retry withdraws a whole one, so during an outage retries dry up instead of multiplying the load.
+ * <p>
+ * Utilisation, the share of the bucket currently spent, is exported as {@code maat.api.retry.budget.utilisation}
+ * and retries refused for lack of budget are counted in {@code maat.api.retry.budget.exhausted}.
+ */
+public class RetryBudget {
+
+    private static final long MILLI_TOKENS_PER_TOKEN = 1_000;
+
+    private final long capacity;
+    private final long depositPerSuccess;
+    private final AtomicLong milliTokens;
+    private final Counter exhausted;
+
+    public RetryBudget(RetryBudgetConfiguration configuration, MeterRegistry meterRegistry, String clientName) {
+        this.capacity = configuration.getMaximumTokens() * MILLI_TOKENS_PER_TOKEN;
+        this.depositPerSuccess = Math.round(configuration.getRatio() * MILLI_TOKENS_PER_TOKEN);
+        this.milliTokens = new AtomicLong(capacity);
+        this.exhausted = Counter.builder("maat.api.retry.budget.exhausted")
+                .description("Retries refused because the retry budget was spent")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        Gauge.builder("maat.api.retry.budget.utilisation", this, RetryBudget::utilisation)
+                .description("Share of the retry budget currently spent, between 0 and 1")
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    public void recordSuccess() {
+        milliTokens.getAndUpdate(current -> Math.min(current + depositPerSuccess, capacity));
+    }
+
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = milliTokens.get();
+            if (current < MILLI_TOKENS_PER_TOKEN) {
+                exhausted.increment();
+                return false;
+            }
+        } while (!milliTokens.compareAndSet(current, current - MILLI_TOKENS_PER_TOKEN));
+        return true;
+    }
+
+    /**
+     * Returns a token withdrawn for a retry that was not made after all.
+     */
+    public void refund() {
+        milliTokens.getAndUpdate(current -> Math.min(current + MILLI_TOKENS_PER_TOKEN, capacity));
+    }
+
+    public double utilisation() {
+        return capacity == 0 ? 1 : 1 - (double) milliTokens.get() / capacity;
+    }
+}
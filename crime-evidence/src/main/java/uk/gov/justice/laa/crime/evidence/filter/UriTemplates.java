@@ -0,0 +1,37 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Optional;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Reads the URI template a request was built from, as configured for its operation: relative to the web client's
+ * base URL and without the query. Spring records the template with the base URL already prepended, e.g.
+ * {@code https://host/api/internal/v1/assessment/rep-orders/{repId}/capital-assets/count} for
+ * {@code /rep-orders/{repId}/capital-assets/count}.
+ */
+@UtilityClass
+class UriTemplates {
+
+    private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+
+    static Optional<String> relativeTemplate(ClientRequest request, String baseUrl) {
+        return request.attribute(URI_TEMPLATE_ATTRIBUTE)
+                .map(String::valueOf)
+                .map(uriTemplate -> relativeTo(uriTemplate, baseUrl));
+    }
+
+    static String relativeTo(String uriTemplate, String baseUrl) {
+        String path = uriTemplate.split("\\?", 2)[0];
+        if (baseUrl == null || baseUrl.isEmpty()) {
+            return path;
+        }
+        String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        boolean underBase = path.startsWith(base)
+                && (path.length() == base.length() || path.charAt(base.length()) == '/');
+        return underBase ? path.substring(base.length()) : path;
+    }
+}
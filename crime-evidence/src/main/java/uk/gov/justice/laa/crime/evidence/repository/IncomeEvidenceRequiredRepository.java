@@ -2,6 +2,8 @@ package uk.gov.justice.laa.crime.evidence.repository;
 
 import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
 
+import java.time.LocalDateTime;
+
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
@@ -34,4 +36,7 @@ public interface IncomeEvidenceRequiredRepository extends CrudRepository<IncomeE
             String partnerEmstCode,
             String applicantPartner,
             Double annualPensionAmount);
+
+    @Query("select max(i.modifiedDateTime) from IncomeEvidenceRequiredEntity i")
+    LocalDateTime findLastModifiedDateTime();
 }
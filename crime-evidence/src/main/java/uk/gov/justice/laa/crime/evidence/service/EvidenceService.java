@@ -4,12 +4,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.common.model.evidence.ApiCalculateEvidenceFeeResponse;
 import uk.gov.justice.laa.crime.common.model.evidence.ApiEvidenceFee;
-import uk.gov.justice.laa.crime.enums.EvidenceFeeLevel;
-import uk.gov.justice.laa.crime.evidence.builder.EvidenceFeeRulesDTOBuilder;
 import uk.gov.justice.laa.crime.evidence.common.Constants;
 import uk.gov.justice.laa.crime.evidence.dto.CrimeEvidenceDTO;
-import uk.gov.justice.laa.crime.evidence.dto.EvidenceFeeRulesDTO;
-import uk.gov.justice.laa.crime.evidence.staticdata.enums.EvidenceFeeRules;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.EvidenceFeeRulesTable;
 
 import org.springframework.stereotype.Service;
 
@@ -20,9 +17,18 @@ public class EvidenceService {
     private final MaatDataService maatDataService;
 
     public ApiCalculateEvidenceFeeResponse calculateEvidenceFee(CrimeEvidenceDTO crimeEvidenceDTO) {
+        return lookUpEvidenceFee(crimeEvidenceDTO).value();
+    }
+
+    /**
+     * Calculates the evidence fee, marking the result stale when it rests on a last known capital asset count.
+     */
+    public StaleWhileRevalidate.Lookup<ApiCalculateEvidenceFeeResponse> lookUpEvidenceFee(
+            CrimeEvidenceDTO crimeEvidenceDTO) {
         ApiCalculateEvidenceFeeResponse apiProcessRepOrderResponse = new ApiCalculateEvidenceFeeResponse();
-        String incomeEvidenceReceived = "N";
-        String capitalEvidenceReceived = "N";
+        boolean stale = false;
+        boolean incomeEvidenceReceived = false;
+        boolean capitalEvidenceReceived = false;
         Long capEvidenceCount = null;
         long capEvidenceOutstandingCount = 0;
 
@@ -38,39 +44,37 @@ public class EvidenceService {
                 capEvidenceOutstandingCount = crimeEvidenceDTO.getCapitalEvidence().stream()
                         .filter(f -> f.getDateReceived() == null)
                         .count();
-                capEvidenceCount = maatDataService
-                        .getCapitalAssetCount(crimeEvidenceDTO.getRepId())
-                        .longValue();
+                StaleWhileRevalidate.Lookup<Integer> capitalAssetCount =
+                        maatDataService.lookUpCapitalAssetCount(crimeEvidenceDTO.getRepId());
+                capEvidenceCount = capitalAssetCount.value().longValue();
+                stale = capitalAssetCount.stale();
             }
 
             if (null != crimeEvidenceDTO.getIncomeEvidenceReceivedDate()) {
-                incomeEvidenceReceived = "Y";
+                incomeEvidenceReceived = true;
             }
 
             if (null != crimeEvidenceDTO.getCapitalEvidenceReceivedDate()
                     || capEvidenceCount == null
                     || capEvidenceOutstandingCount == 0) {
-                capitalEvidenceReceived = "Y";
+                capitalEvidenceReceived = true;
             }
 
-            EvidenceFeeRulesDTO evidenceFeeRulesDTO = EvidenceFeeRulesDTOBuilder.build(
-                    crimeEvidenceDTO.getEmstCode(),
-                    capitalEvidenceReceived,
-                    incomeEvidenceReceived,
-                    capEvidenceCount,
-                    capEvidenceCount);
-            EvidenceFeeRules evidenceFeeRules = EvidenceFeeRules.getFrom(evidenceFeeRulesDTO);
-            if (evidenceFeeRules != null) {
-                EvidenceFeeLevel evidenceFeeLevel = EvidenceFeeLevel.getFrom(
-                        evidenceFeeRules.getEvidenceFeeLevel().toString());
-                if (evidenceFeeLevel != null) {
+            // Without any capital evidence there is no count to match the rules against
+            if (capEvidenceCount != null) {
+                ApiEvidenceFee evidenceFee = EvidenceFeeRulesTable.find(
+                        crimeEvidenceDTO.getEmstCode(),
+                        incomeEvidenceReceived,
+                        capitalEvidenceReceived,
+                        capEvidenceCount);
+                if (evidenceFee != null) {
                     apiProcessRepOrderResponse.withEvidenceFee(new ApiEvidenceFee()
-                            .withFeeLevel(evidenceFeeLevel.getFeeLevel())
-                            .withDescription(evidenceFeeLevel.getDescription()));
+                            .withFeeLevel(evidenceFee.getFeeLevel())
+                            .withDescription(evidenceFee.getDescription()));
                 }
             }
         }
-        return apiProcessRepOrderResponse;
+        return new StaleWhileRevalidate.Lookup<>(apiProcessRepOrderResponse, stale);
     }
 
     protected boolean isCalcRequired(CrimeEvidenceDTO crimeEvidenceDTO) {
@@ -10,15 +10,15 @@ import uk.gov.justice.laa.crime.common.model.evidence.ApiIncomeEvidenceItems;
 import uk.gov.justice.laa.crime.common.model.evidence.ApiUpdateIncomeEvidenceResponse;
 import uk.gov.justice.laa.crime.enums.EmploymentStatus;
 import uk.gov.justice.laa.crime.enums.MagCourtOutcome;
-import uk.gov.justice.laa.crime.enums.evidence.IncomeEvidenceType;
 import uk.gov.justice.laa.crime.evidence.dto.CreateEvidenceDTO;
 import uk.gov.justice.laa.crime.evidence.dto.EvidenceReceivedResultDTO;
 import uk.gov.justice.laa.crime.evidence.dto.UpdateEvidenceDTO;
-import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredItemRepository;
-import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredRepository;
-import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.DefaultIncomeEvidenceTemplates;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceReferenceData;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceRequirement;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceShadowVerifier;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceTypeMask;
 import uk.gov.justice.laa.crime.evidence.staticdata.enums.ApplicantType;
-import uk.gov.justice.laa.crime.evidence.staticdata.projection.IncomeEvidenceRequiredItemProjection;
 import uk.gov.justice.laa.crime.util.DateUtil;
 
 import java.math.BigDecimal;
@@ -35,8 +35,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class IncomeEvidenceService {
 
-    private final IncomeEvidenceRequiredRepository incomeEvidenceRequiredRepository;
-    private final IncomeEvidenceRequiredItemRepository incomeEvidenceRequiredItemRepository;
+    private final IncomeEvidenceReferenceData incomeEvidenceReferenceData;
+    private final DefaultIncomeEvidenceTemplates defaultIncomeEvidenceTemplates;
+    private final IncomeEvidenceShadowVerifier incomeEvidenceShadowVerifier;
     private final IncomeEvidenceValidationService incomeEvidenceValidationService;
 
     public boolean checkEvidenceReceived(
@@ -68,16 +69,13 @@ public class IncomeEvidenceService {
             int incomeEvidenceRequiredId, List<ApiIncomeEvidence> providedEvidenceItems) {
         /*
          Note: The income evidence items passed in are only those items provided. There may be
-          many more evidence items required than are passed in, therefore we need to call out to
-          find all the required income evidence items first (based on the income evidence
-          required id) and then filter down to check that the mandatory items are present.
+          many more evidence items required than are passed in, therefore we need to look up the
+          mandatory evidence types for the income evidence required id and check that each one
+          has been received.
         */
-        List<IncomeEvidenceRequiredItemProjection> requiredEvidenceItems =
-                incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(incomeEvidenceRequiredId).stream()
-                        .filter(item -> "Y".equals(item.getMandatory()))
-                        .toList();
-
-        if (requiredEvidenceItems.isEmpty()) {
+        long mandatoryEvidence = incomeEvidenceReferenceData.getMandatoryEvidenceMask(incomeEvidenceRequiredId);
+        incomeEvidenceShadowVerifier.verifyMandatoryEvidence(incomeEvidenceRequiredId, mandatoryEvidence);
+        if (mandatoryEvidence == 0L) {
             return false;
         }
 
@@ -85,20 +83,23 @@ public class IncomeEvidenceService {
             return true;
         }
 
-        for (IncomeEvidenceRequiredItemProjection requiredEvidenceItem : requiredEvidenceItems) {
-            Optional<ApiIncomeEvidence> evidenceItem = providedEvidenceItems.stream()
-                    .filter(providedEvidenceItem -> providedEvidenceItem
-                            .getEvidenceType()
-                            .getName()
-                            .equals(requiredEvidenceItem.getIncomeEvidenceRequiredDescription()))
-                    .findFirst();
-
-            if (evidenceItem.isEmpty() || evidenceItem.get().getDateReceived() == null) {
-                return true;
+        // Only the first item provided for each evidence type decides whether that type has been received
+        long providedEvidence = 0L;
+        long receivedEvidence = 0L;
+        for (ApiIncomeEvidence providedEvidenceItem : providedEvidenceItems) {
+            if (providedEvidenceItem.getEvidenceType() == null) {
+                continue;
+            }
+            long evidenceType = IncomeEvidenceTypeMask.bit(providedEvidenceItem.getEvidenceType());
+            if ((providedEvidence & evidenceType) == 0L) {
+                providedEvidence |= evidenceType;
+                if (providedEvidenceItem.getDateReceived() != null) {
+                    receivedEvidence |= evidenceType;
+                }
             }
         }
 
-        return false;
+        return (mandatoryEvidence & ~receivedEvidence) != 0L;
     }
 
     public EvidenceReceivedResultDTO checkMinimumEvidenceItemsReceived(
@@ -108,25 +109,27 @@ public class IncomeEvidenceService {
             EmploymentStatus applicantEmploymentStatus,
             EmploymentStatus partnerEmploymentStatus,
             BigDecimal pensionAmount) {
-        IncomeEvidenceRequiredEntity incomeEvidenceRequiredEntity =
-                incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
-                        magCourtOutcome.getOutcome(),
-                        applicantEmploymentStatus.getCode(),
-                        partnerEmploymentStatus != null ? partnerEmploymentStatus.getCode() : null,
-                        applicantType.toString(),
-                        pensionAmount.doubleValue());
-
-        if (incomeEvidenceRequiredEntity == null) {
+        IncomeEvidenceRequirement incomeEvidenceRequirement = incomeEvidenceReferenceData.findIncomeEvidenceRequired(
+                magCourtOutcome, applicantEmploymentStatus, partnerEmploymentStatus, applicantType, pensionAmount);
+        incomeEvidenceShadowVerifier.verifyIncomeEvidenceRequired(
+                magCourtOutcome,
+                applicantEmploymentStatus,
+                partnerEmploymentStatus,
+                applicantType,
+                pensionAmount,
+                incomeEvidenceRequirement);
+
+        if (incomeEvidenceRequirement == null) {
             return new EvidenceReceivedResultDTO(true, 0, 0);
         }
 
         boolean minimumEvidenceItemsReceived =
-                providedEvidenceItems.size() >= incomeEvidenceRequiredEntity.getEvidenceItemsRequired();
+                providedEvidenceItems.size() >= incomeEvidenceRequirement.evidenceItemsRequired();
 
         return new EvidenceReceivedResultDTO(
                 minimumEvidenceItemsReceived,
-                incomeEvidenceRequiredEntity.getId(),
-                incomeEvidenceRequiredEntity.getEvidenceItemsRequired());
+                incomeEvidenceRequirement.id(),
+                incomeEvidenceRequirement.evidenceItemsRequired());
     }
 
     public ApiCreateIncomeEvidenceResponse createEvidence(CreateEvidenceDTO createEvidenceDTO) {
@@ -151,40 +154,34 @@ public class IncomeEvidenceService {
 
     private List<ApiIncomeEvidence> getDefaultEvidenceItems(
             CreateEvidenceDTO createEvidenceDTO, ApplicantType applicantType, BigDecimal pensionAmount) {
-        IncomeEvidenceRequiredEntity incomeEvidenceRequiredEntity =
-                incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
-                        createEvidenceDTO.getMagCourtOutcome().getOutcome(),
-                        createEvidenceDTO
-                                .getApplicantDetails()
-                                .getEmploymentStatus()
-                                .getCode(),
-                        createEvidenceDTO.getPartnerDetails() != null
-                                ? createEvidenceDTO
-                                        .getPartnerDetails()
-                                        .getEmploymentStatus()
-                                        .getCode()
-                                : null,
-                        applicantType.toString(),
-                        pensionAmount.doubleValue());
-
-        if (incomeEvidenceRequiredEntity != null && incomeEvidenceRequiredEntity.getEvidenceItemsRequired() > 0) {
-            return incomeEvidenceRequiredItemRepository
-                    .findByIncomeEvidenceRequiredId(incomeEvidenceRequiredEntity.getId())
-                    .stream()
-                    .map(this::buildEvidence)
-                    .toList();
+        EmploymentStatus partnerEmploymentStatus = createEvidenceDTO.getPartnerDetails() != null
+                ? createEvidenceDTO.getPartnerDetails().getEmploymentStatus()
+                : null;
+        IncomeEvidenceRequirement incomeEvidenceRequirement = incomeEvidenceReferenceData.findIncomeEvidenceRequired(
+                createEvidenceDTO.getMagCourtOutcome(),
+                createEvidenceDTO.getApplicantDetails().getEmploymentStatus(),
+                partnerEmploymentStatus,
+                applicantType,
+                pensionAmount);
+        incomeEvidenceShadowVerifier.verifyIncomeEvidenceRequired(
+                createEvidenceDTO.getMagCourtOutcome(),
+                createEvidenceDTO.getApplicantDetails().getEmploymentStatus(),
+                partnerEmploymentStatus,
+                applicantType,
+                pensionAmount,
+                incomeEvidenceRequirement);
+
+        if (incomeEvidenceRequirement != null && incomeEvidenceRequirement.evidenceItemsRequired() > 0) {
+            List<ApiIncomeEvidence> defaultEvidenceItems =
+                    defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(incomeEvidenceRequirement.id());
+            incomeEvidenceShadowVerifier.verifyDefaultEvidenceItems(
+                    incomeEvidenceRequirement.id(), defaultEvidenceItems);
+            return defaultEvidenceItems;
         }
 
         return new ArrayList<>();
     }
 
-    private ApiIncomeEvidence buildEvidence(IncomeEvidenceRequiredItemProjection incomeEvidenceRequiredItemProjection) {
-        return new ApiIncomeEvidence()
-                .withMandatory("Y".equals(incomeEvidenceRequiredItemProjection.getMandatory()))
-                .withEvidenceType(IncomeEvidenceType.getFrom(
-                        incomeEvidenceRequiredItemProjection.getIncomeEvidenceRequiredDescription()));
-    }
-
     public ApiUpdateIncomeEvidenceResponse updateEvidence(UpdateEvidenceDTO updateEvidenceDTO) {
         List<ApiIncomeEvidence> applicantEvidenceItems = updateEvidenceDTO.getApplicantIncomeEvidenceItems();
         List<ApiIncomeEvidence> partnerEvidenceItems = Optional.ofNullable(
@@ -1,20 +1,99 @@
 package uk.gov.justice.laa.crime.evidence.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.evidence.client.MaatDataApiClient;
+import uk.gov.justice.laa.crime.evidence.common.EvictionGuard;
+import uk.gov.justice.laa.crime.evidence.common.SingleFlight;
+import uk.gov.justice.laa.crime.evidence.config.MaatDataCacheConfiguration;
 
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MaatDataService {
 
+    public static final String CAPITAL_ASSET_COUNT_CACHE = "maatCapitalAssetCount";
+    public static final String CAPITAL_ASSET_COUNT_NOT_FOUND_CACHE = "maatCapitalAssetCountNotFound";
+
     private final MaatDataApiClient maatDataApiClient;
+    private final MaatDataCacheConfiguration cacheConfiguration;
+    private final Cache<Integer, Integer> capitalAssetCounts;
+    private final NotFoundCache<Integer> capitalAssetCountsNotFound;
+    private final SingleFlight<Integer, Integer> capitalAssetCountCalls;
+    private final EvictionGuard<Integer> capitalAssetCountEvictions = new EvictionGuard<>();
+    private final StaleWhileRevalidate<Integer, Integer> lastKnownCapitalAssetCounts;
     private static final String RESPONSE_STRING = "Response from Court Data API: %s";
 
+    public MaatDataService(
+            MaatDataApiClient maatDataApiClient,
+            MaatDataCacheConfiguration cacheConfiguration,
+            MeterRegistry meterRegistry) {
+        this.maatDataApiClient = maatDataApiClient;
+        this.cacheConfiguration = cacheConfiguration;
+        this.capitalAssetCounts = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(cacheConfiguration.getTtl())
+                        .maximumSize(cacheConfiguration.getMaximumSize())
+                        .recordStats()
+                        .build(),
+                CAPITAL_ASSET_COUNT_CACHE);
+        this.capitalAssetCountsNotFound = new NotFoundCache<>(
+                CAPITAL_ASSET_COUNT_NOT_FOUND_CACHE, cacheConfiguration.getNotFound(), meterRegistry);
+        this.capitalAssetCountCalls = new SingleFlight<>("capital-asset-count", meterRegistry);
+        this.lastKnownCapitalAssetCounts = new StaleWhileRevalidate<>(
+                "capital-asset-count", cacheConfiguration.getStaleWhileRevalidate(), meterRegistry);
+    }
+
     public Integer getCapitalAssetCount(Integer repId) {
+        return lookUpCapitalAssetCount(repId).value();
+    }
+
+    public StaleWhileRevalidate.Lookup<Integer> lookUpCapitalAssetCount(Integer repId) {
+        if (capitalAssetCountsNotFound.isNotFound(repId)) {
+            log.debug("Capital asset count for repId: {} recently not found", repId);
+            return StaleWhileRevalidate.Lookup.fresh(null);
+        }
+        if (!cacheConfiguration.isEnabled() || repId == null) {
+            return lastKnownCapitalAssetCounts.get(
+                    repId, id -> capitalAssetCountCalls.execute(id, () -> loadCapitalAssetCount(id, false)));
+        }
+
+        Integer cached = capitalAssetCounts.getIfPresent(repId);
+        if (cached != null) {
+            return StaleWhileRevalidate.Lookup.fresh(cached);
+        }
+        // Concurrent misses share one call, including its failure. Failures are not cached, and null counts are
+        // only remembered briefly as not found, so the MAAT API is asked again
+        return lastKnownCapitalAssetCounts.get(
+                repId, id -> capitalAssetCountCalls.execute(id, () -> loadCapitalAssetCount(id, true)));
+    }
+
+    public void evictCapitalAssetCount(Integer repId) {
+        log.debug("Evicting cached capital asset count for repId: {}", repId);
+        // First, so a count still being fetched is not cached after the invalidation
+        capitalAssetCountEvictions.evict(repId);
+        capitalAssetCounts.invalidate(repId);
+        capitalAssetCountsNotFound.evict(repId);
+        lastKnownCapitalAssetCounts.evict(repId);
+    }
+
+    private Integer loadCapitalAssetCount(Integer repId, boolean cache) {
+        return capitalAssetCountEvictions.fetch(repId, () -> fetchCapitalAssetCount(repId), count -> {
+            if (count == null) {
+                capitalAssetCountsNotFound.recordNotFound(repId);
+            } else if (cache) {
+                capitalAssetCounts.put(repId, count);
+            }
+        });
+    }
+
+    private Integer fetchCapitalAssetCount(Integer repId) {
         log.debug("Request to retrieve capital asset count for repId: {}", repId);
         Integer response = maatDataApiClient.getCapitalAssetCount(repId);
         log.debug(String.format(RESPONSE_STRING, response));
@@ -0,0 +1,48 @@
+package uk.gov.justice.laa.crime.evidence.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import uk.gov.justice.laa.crime.evidence.config.MaatDataCacheConfiguration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers ids the MAAT API reported as not found for a short time. {@code WebClientFilters.handleNotFoundResponse}
+ * turns a 404 into an empty response, so a not found result reaches the services as a null body.
+ * <p>
+ * Kept apart from the positive caches so it has its own, shorter, TTL and its own hit and miss metrics.
+ */
+public final class NotFoundCache<K> {
+
+    private final MaatDataCacheConfiguration.NotFound configuration;
+    private final Cache<K, Boolean> notFound;
+
+    public NotFoundCache(String name, MaatDataCacheConfiguration.NotFound configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.notFound = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(configuration.getTtl())
+                        .maximumSize(configuration.getMaximumSize())
+                        .recordStats()
+                        .build(),
+                name);
+    }
+
+    public boolean isNotFound(K key) {
+        return configuration.isEnabled() && key != null && notFound.getIfPresent(key) != null;
+    }
+
+    public void recordNotFound(K key) {
+        if (configuration.isEnabled() && key != null) {
+            notFound.put(key, Boolean.TRUE);
+        }
+    }
+
+    public void evict(K key) {
+        if (key != null) {
+            notFound.invalidate(key);
+        }
+    }
+}
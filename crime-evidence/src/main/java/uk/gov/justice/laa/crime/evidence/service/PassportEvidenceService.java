@@ -1,25 +1,115 @@
 package uk.gov.justice.laa.crime.evidence.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.common.model.evidence.ApiGetPassportEvidenceResponse;
 import uk.gov.justice.laa.crime.evidence.client.MaatDataApiClient;
+import uk.gov.justice.laa.crime.evidence.common.SingleFlight;
+import uk.gov.justice.laa.crime.evidence.config.MaatDataCacheConfiguration;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PassportEvidenceService {
 
+    public static final String PASSPORT_EVIDENCE_CACHE = "maatPassportEvidence";
+    public static final String PASSPORT_EVIDENCE_NOT_FOUND_CACHE = "maatPassportEvidenceNotFound";
+
     private final MaatDataApiClient maatDataApiClient;
+    private final MaatDataCacheConfiguration.PassportEvidence cacheConfiguration;
+    private final SingleFlight<Integer, ApiGetPassportEvidenceResponse> passportEvidenceCalls;
+    private final Cache<Integer, CachedPassportEvidence> passportEvidence;
+    private final NotFoundCache<Integer> passportEvidenceNotFound;
+    private final StaleWhileRevalidate<Integer, ApiGetPassportEvidenceResponse> lastKnownPassportEvidence;
+    private final Counter notModified;
+    private final Counter modified;
 
     private static final String RESPONSE_STRING = "Response from MAAT Data API: %s";
 
+    public PassportEvidenceService(
+            MaatDataApiClient maatDataApiClient,
+            MaatDataCacheConfiguration cacheConfiguration,
+            MeterRegistry meterRegistry) {
+        this.maatDataApiClient = maatDataApiClient;
+        this.cacheConfiguration = cacheConfiguration.getPassportEvidence();
+        this.passportEvidenceCalls = new SingleFlight<>("passport-evidence", meterRegistry);
+        this.passportEvidence = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .expireAfterAccess(this.cacheConfiguration.getExpireAfterAccess())
+                        .maximumSize(this.cacheConfiguration.getMaximumSize())
+                        .recordStats()
+                        .build(),
+                PASSPORT_EVIDENCE_CACHE);
+        this.passportEvidenceNotFound = new NotFoundCache<>(
+                PASSPORT_EVIDENCE_NOT_FOUND_CACHE, cacheConfiguration.getNotFound(), meterRegistry);
+        this.lastKnownPassportEvidence = new StaleWhileRevalidate<>(
+                "passport-evidence", cacheConfiguration.getStaleWhileRevalidate(), meterRegistry);
+        this.notModified = revalidationCounter(meterRegistry, "not_modified");
+        this.modified = revalidationCounter(meterRegistry, "modified");
+    }
+
+    private static Counter revalidationCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("maat.api.passport.evidence.revalidations")
+                .description("Conditional requests made for cached passport evidence")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
     public ApiGetPassportEvidenceResponse getPassportEvidence(int passportAssessmentId) {
+        return lookUpPassportEvidence(passportAssessmentId).value();
+    }
+
+    /**
+     * Looks up passport evidence, saying whether it is a last known value served while the MAAT API is asked again.
+     */
+    public StaleWhileRevalidate.Lookup<ApiGetPassportEvidenceResponse> lookUpPassportEvidence(
+            int passportAssessmentId) {
+        if (passportEvidenceNotFound.isNotFound(passportAssessmentId)) {
+            log.debug("Evidence for passport assessment: {} recently not found", passportAssessmentId);
+            return new StaleWhileRevalidate.Lookup<>(null, false);
+        }
+        return lastKnownPassportEvidence.get(
+                passportAssessmentId, id -> passportEvidenceCalls.execute(id, () -> fetchPassportEvidence(id)));
+    }
+
+    private ApiGetPassportEvidenceResponse fetchPassportEvidence(int passportAssessmentId) {
         log.debug("Request to retrieve evidence for passport assessment: {}", passportAssessmentId);
-        ApiGetPassportEvidenceResponse response = maatDataApiClient.getPassportEvidence(passportAssessmentId);
-        log.debug(String.format(RESPONSE_STRING, response));
-        return response;
+        CachedPassportEvidence cached =
+                cacheConfiguration.isEnabled() ? passportEvidence.getIfPresent(passportAssessmentId) : null;
+        ResponseEntity<ApiGetPassportEvidenceResponse> response = maatDataApiClient.getPassportEvidence(
+                passportAssessmentId, cached != null ? cached.eTag() : null);
+
+        if (cached != null) {
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                notModified.increment();
+                log.debug("Passport evidence for passport assessment {} not modified", passportAssessmentId);
+                return cached.response();
+            }
+            modified.increment();
+        }
+
+        ApiGetPassportEvidenceResponse body = response.getBody();
+        String eTag = response.getHeaders().getETag();
+        if (cacheConfiguration.isEnabled() && body != null && eTag != null) {
+            passportEvidence.put(passportAssessmentId, new CachedPassportEvidence(eTag, body));
+        } else {
+            passportEvidence.invalidate(passportAssessmentId);
+        }
+        if (body == null) {
+            passportEvidenceNotFound.recordNotFound(passportAssessmentId);
+        }
+        log.debug(String.format(RESPONSE_STRING, body));
+        return body;
     }
+
+    private record CachedPassportEvidence(String eTag, ApiGetPassportEvidenceResponse response) {}
 }
@@ -0,0 +1,142 @@
+package uk.gov.justice.laa.crime.evidence.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.evidence.common.EvictionGuard;
+import uk.gov.justice.laa.crime.evidence.config.MaatDataCacheConfiguration;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keeps the last known value of a MAAT API lookup along with when it was fetched. A value younger than the soft TTL
+ * is served as fresh. One older than that, but younger than the maximum staleness, is served at once as stale while
+ * a fresh one is fetched in the background. Only the first lookup of a key, or one whose last known value is older
+ * than the maximum staleness, waits for the MAAT API. A background fetch that fails leaves the last known value to be
+ * served until it ages out. A fetch that was in flight when its key was evicted does not bring the old value back.
+ * <p>
+ * Each lookup says whether its value is stale, so callers can tell their own clients, e.g. with
+ * {@value #STALE_HEADER}. Stale values served are counted in {@code maat.api.stale.serves}, tagged with the
+ * operation, and background fetches that fail in {@code maat.api.stale.refresh.failures}. When disabled, every
+ * lookup goes straight to the MAAT API.
+ */
+@Slf4j
+public final class StaleWhileRevalidate<K, V> {
+
+    public static final String STALE_HEADER = "X-Data-Stale";
+
+    private final boolean enabled;
+    private final long softTtlNanos;
+    private final Cache<K, LastKnown<V>> lastKnownValues;
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+    private final EvictionGuard<K> evictions = new EvictionGuard<>();
+    private final ThreadPoolExecutor executor;
+    private final Counter staleServes;
+    private final Counter refreshFailures;
+
+    public StaleWhileRevalidate(
+            String operation,
+            MaatDataCacheConfiguration.StaleWhileRevalidate configuration,
+            MeterRegistry meterRegistry) {
+        this.enabled = configuration.isEnabled();
+        this.softTtlNanos = configuration.getSoftTtl().toNanos();
+        this.lastKnownValues = Caffeine.newBuilder()
+                .expireAfterWrite(configuration.getMaximumStaleness())
+                .maximumSize(configuration.getMaximumSize())
+                .build();
+        this.executor = new ThreadPoolExecutor(
+                configuration.getRefreshThreads(),
+                configuration.getRefreshThreads(),
+                30L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, configuration.getRefreshQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "maat-api-revalidate-" + operation);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.staleServes = Counter.builder("maat.api.stale.serves")
+                .description("Lookups answered with the last known value while the MAAT API was asked again")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("maat.api.stale.refresh.failures")
+                .description("Background MAAT API lookups that failed, leaving the last known value in place")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public Lookup<V> get(K key, Function<K, V> fetch) {
+        if (!enabled || key == null) {
+            return Lookup.fresh(fetch.apply(key));
+        }
+        LastKnown<V> lastKnown = lastKnownValues.getIfPresent(key);
+        if (lastKnown == null) {
+            return Lookup.fresh(fetchAndRemember(key, fetch));
+        }
+        if (System.nanoTime() - lastKnown.fetchedAt() < softTtlNanos) {
+            return Lookup.fresh(lastKnown.value());
+        }
+        staleServes.increment();
+        refreshInBackground(key, fetch);
+        return new Lookup<>(lastKnown.value(), true);
+    }
+
+    public void evict(K key) {
+        evictions.evict(key);
+        lastKnownValues.invalidate(key);
+    }
+
+    private V fetchAndRemember(K key, Function<K, V> fetch) {
+        return evictions.fetch(key, () -> fetch.apply(key), value -> {
+            // The MAAT API no longer has a value for the key, so there is nothing left to fall back on
+            if (value == null) {
+                lastKnownValues.invalidate(key);
+            } else {
+                lastKnownValues.put(key, new LastKnown<>(value, System.nanoTime()));
+            }
+        });
+    }
+
+    private void refreshInBackground(K key, Function<K, V> fetch) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    fetchAndRemember(key, fetch);
+                } catch (RuntimeException e) {
+                    refreshFailures.increment();
+                    log.warn("Background refresh of {} failed, still serving the last known value", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.debug("Background refresh queue full, not refreshing {}", key);
+        }
+    }
+
+    /**
+     * A looked up value, and whether it is a last known value served while a fresh one is fetched.
+     */
+    public record Lookup<V>(V value, boolean stale) {
+
+        static <V> Lookup<V> fresh(V value) {
+            return new Lookup<>(value, false);
+        }
+    }
+
+    private record LastKnown<V>(V value, long fetchedAt) {}
+}
@@ -0,0 +1,107 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.bundle;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredItemEntity;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The binary form of the income_evidence_required and income_evidence_req_items rows bundled into the jar.
+ * <p>
+ * The layout is a magic number and format version, then each table as a row count followed by its rows. Only the
+ * columns the rules read are kept; nullable strings are prefixed with a presence flag.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IncomeEvidenceReferenceDataBundle {
+
+    public static final String RESOURCE = "reference-data/income-evidence.bin";
+
+    private static final int MAGIC = 0x49455644;
+    private static final int FORMAT_VERSION = 1;
+
+    public record Contents(
+            List<IncomeEvidenceRequiredEntity> incomeEvidenceRequired,
+            List<IncomeEvidenceRequiredItemEntity> incomeEvidenceRequiredItems) {}
+
+    public static void write(Contents contents, OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+
+        output.writeInt(contents.incomeEvidenceRequired().size());
+        for (IncomeEvidenceRequiredEntity rule : contents.incomeEvidenceRequired()) {
+            output.writeInt(rule.getId());
+            writeNullableString(output, rule.getMcooOutcome());
+            writeNullableString(output, rule.getApplicantEmstCode());
+            output.writeInt(rule.getEvidenceItemsRequired());
+            output.writeInt(rule.getAnnualPensionAmount());
+            writeNullableString(output, rule.getApplicantPartner());
+            writeNullableString(output, rule.getPartnerEmstCode());
+        }
+
+        output.writeInt(contents.incomeEvidenceRequiredItems().size());
+        for (IncomeEvidenceRequiredItemEntity item : contents.incomeEvidenceRequiredItems()) {
+            output.writeInt(item.getId());
+            output.writeInt(item.getIncomeEvidenceRequiredId());
+            writeNullableString(output, item.getIncomeEvidenceRequiredDescription());
+            writeNullableString(output, item.getMandatory());
+        }
+        output.flush();
+    }
+
+    public static Contents read(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(inputStream);
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not an income evidence reference data bundle");
+        }
+        int formatVersion = input.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported income evidence reference data bundle version " + formatVersion);
+        }
+
+        int ruleCount = input.readInt();
+        List<IncomeEvidenceRequiredEntity> rules = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            rules.add(IncomeEvidenceRequiredEntity.builder()
+                    .id(input.readInt())
+                    .mcooOutcome(readNullableString(input))
+                    .applicantEmstCode(readNullableString(input))
+                    .evidenceItemsRequired(input.readInt())
+                    .annualPensionAmount(input.readInt())
+                    .applicantPartner(readNullableString(input))
+                    .partnerEmstCode(readNullableString(input))
+                    .build());
+        }
+
+        int itemCount = input.readInt();
+        List<IncomeEvidenceRequiredItemEntity> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(IncomeEvidenceRequiredItemEntity.builder()
+                    .id(input.readInt())
+                    .incomeEvidenceRequiredId(input.readInt())
+                    .incomeEvidenceRequiredDescription(readNullableString(input))
+                    .mandatory(readNullableString(input))
+                    .build());
+        }
+        return new Contents(List.copyOf(rules), List.copyOf(items));
+    }
+
+    private static void writeNullableString(DataOutputStream output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
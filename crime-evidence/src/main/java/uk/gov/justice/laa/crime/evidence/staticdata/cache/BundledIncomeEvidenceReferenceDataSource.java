@@ -0,0 +1,50 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import uk.gov.justice.laa.crime.evidence.staticdata.bundle.IncomeEvidenceReferenceDataBundle;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredItemEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the income evidence rules from the bundle generated from the Liquibase changesets at build time, so the
+ * service can run without a database. The bundle cannot change at runtime, so its fingerprint never does either.
+ */
+@Component
+@ConditionalOnProperty(name = "reference-data.source", havingValue = "bundled")
+public class BundledIncomeEvidenceReferenceDataSource implements IncomeEvidenceReferenceDataSource {
+
+    private final IncomeEvidenceReferenceDataBundle.Contents contents;
+
+    public BundledIncomeEvidenceReferenceDataSource() {
+        try (InputStream inputStream =
+                new ClassPathResource(IncomeEvidenceReferenceDataBundle.RESOURCE).getInputStream()) {
+            this.contents = IncomeEvidenceReferenceDataBundle.read(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to read the bundled reference data " + IncomeEvidenceReferenceDataBundle.RESOURCE, e);
+        }
+    }
+
+    @Override
+    public ReferenceDataFingerprint readFingerprint() {
+        return new ReferenceDataFingerprint(
+                contents.incomeEvidenceRequired().size(), null, contents.incomeEvidenceRequiredItems().size(), null);
+    }
+
+    @Override
+    public Iterable<IncomeEvidenceRequiredEntity> findAllIncomeEvidenceRequired() {
+        return contents.incomeEvidenceRequired();
+    }
+
+    @Override
+    public Iterable<IncomeEvidenceRequiredItemEntity> findAllIncomeEvidenceRequiredItems() {
+        return contents.incomeEvidenceRequiredItems();
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.justice.laa.crime.common.model.evidence.ApiIncomeEvidence;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds one prebuilt default evidence list per income evidence required id, as returned by createEvidence.
+ * <p>
+ * The templates for every id are built together from one reference data snapshot and published with its version as
+ * a single immutable {@link Templates}, so a caller never sees templates from one snapshot under another's version.
+ * They are rebuilt once a newer snapshot is published. Callers receive the shared, unmodifiable template itself
+ * rather than a copy, so must not modify its {@link ApiIncomeEvidence} items.
+ */
+@Component
+public class DefaultIncomeEvidenceTemplates {
+
+    private static final String METRIC_NAME = "evidence.default.templates";
+
+    private final IncomeEvidenceReferenceData incomeEvidenceReferenceData;
+    private final Counter hits;
+    private final Counter misses;
+    private volatile Templates templates = new Templates(0L, Map.of());
+
+    public DefaultIncomeEvidenceTemplates(
+            IncomeEvidenceReferenceData incomeEvidenceReferenceData, MeterRegistry meterRegistry) {
+        this.incomeEvidenceReferenceData = incomeEvidenceReferenceData;
+        this.hits = Counter.builder(METRIC_NAME)
+                .description("Default income evidence lists served from a prebuilt template")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME)
+                .description("Default income evidence lists served from a prebuilt template")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public List<ApiIncomeEvidence> getDefaultEvidenceItems(int incomeEvidenceRequiredId) {
+        Templates current = templates;
+        if (current.version() < incomeEvidenceReferenceData.getSnapshot().version()) {
+            misses.increment();
+            current = rebuild();
+        } else {
+            hits.increment();
+        }
+        return current.byIncomeEvidenceRequiredId().getOrDefault(incomeEvidenceRequiredId, List.of());
+    }
+
+    private synchronized Templates rebuild() {
+        IncomeEvidenceReferenceDataSnapshot snapshot = incomeEvidenceReferenceData.getSnapshot();
+        Templates current = templates;
+        // Another caller may have rebuilt them while this one waited
+        if (current.version() >= snapshot.version()) {
+            return current;
+        }
+        IncomeEvidenceRequiredItemTable itemTable = snapshot.incomeEvidenceRequiredItemTable();
+        Templates rebuilt = new Templates(
+                snapshot.version(),
+                itemTable
+                        .incomeEvidenceRequiredIds()
+                        .boxed()
+                        .collect(Collectors.toUnmodifiableMap(
+                                Function.identity(), id -> buildTemplate(itemTable.get(id)))));
+        templates = rebuilt;
+        return rebuilt;
+    }
+
+    private static List<ApiIncomeEvidence> buildTemplate(List<IncomeEvidenceRequiredItem> incomeEvidenceRequiredItems) {
+        return incomeEvidenceRequiredItems.stream()
+                .map(item -> new ApiIncomeEvidence()
+                        .withMandatory(item.mandatory())
+                        .withEvidenceType(item.evidenceType()))
+                .toList();
+    }
+
+    private record Templates(long version, Map<Integer, List<ApiIncomeEvidence>> byIncomeEvidenceRequiredId) {}
+}
@@ -0,0 +1,36 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import uk.gov.justice.laa.crime.enums.evidence.IncomeEvidenceType;
+import uk.gov.justice.laa.crime.evidence.staticdata.enums.IncomeEvidence;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared lookup from INEV_EVIDENCE codes to the {@link IncomeEvidenceType} enum. It comes from crime-commons, so its
+ * code map is built here, once, keeping the first constant for a code as the linear scan it replaces did, and
+ * resolving a code is a single hash probe. {@link IncomeEvidence} holds its own code map.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EvidenceCodeRegistry {
+
+    private static final Map<String, IncomeEvidenceType> INCOME_EVIDENCE_TYPES = indexIncomeEvidenceTypes();
+
+    public static IncomeEvidenceType getIncomeEvidenceType(String evidence) {
+        IncomeEvidenceType incomeEvidenceType = evidence != null ? INCOME_EVIDENCE_TYPES.get(evidence) : null;
+        // Leave blank and unknown codes to the enum, so they are reported exactly as before
+        return incomeEvidenceType != null ? incomeEvidenceType : IncomeEvidenceType.getFrom(evidence);
+    }
+
+    private static Map<String, IncomeEvidenceType> indexIncomeEvidenceTypes() {
+        Map<String, IncomeEvidenceType> index = new HashMap<>();
+        for (IncomeEvidenceType incomeEvidenceType : IncomeEvidenceType.values()) {
+            if (incomeEvidenceType.getName() != null) {
+                index.putIfAbsent(incomeEvidenceType.getName(), incomeEvidenceType);
+            }
+        }
+        return Map.copyOf(index);
+    }
+}
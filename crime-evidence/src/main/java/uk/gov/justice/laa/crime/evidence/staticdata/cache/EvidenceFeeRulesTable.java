@@ -0,0 +1,75 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import uk.gov.justice.laa.crime.common.model.evidence.ApiEvidenceFee;
+import uk.gov.justice.laa.crime.evidence.staticdata.enums.EvidenceFeeRules;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Constant-time lookup of the first {@link EvidenceFeeRules} constant matching a set of evidence fee inputs.
+ * <p>
+ * Every (emst code, income evidence received, capital evidence received, capital evidence count) combination is
+ * resolved once, in the enum's declaration order so the first matching rule wins as before. Capital evidence
+ * counts above the highest bound in any rule all resolve the same way, so they are clamped to one past it. The
+ * table holds the final {@link ApiEvidenceFee} for each cell; callers must copy it rather than hand it out.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EvidenceFeeRulesTable {
+
+    private static final int MAX_CAPITAL_EVIDENCE_COUNT = highestCapitalEvidenceBound() + 1;
+    private static final int COUNTS = MAX_CAPITAL_EVIDENCE_COUNT + 1;
+    private static final Map<String, ApiEvidenceFee[]> EVIDENCE_FEES = buildEvidenceFees();
+
+    public static ApiEvidenceFee find(
+            String emstCode,
+            boolean allIncomeEvidenceReceived,
+            boolean allCapitalEvidenceReceived,
+            long capitalEvidenceCount) {
+        ApiEvidenceFee[] evidenceFees = emstCode != null ? EVIDENCE_FEES.get(emstCode) : null;
+        if (evidenceFees == null || capitalEvidenceCount < 0) {
+            return null;
+        }
+        int count = (int) Math.min(capitalEvidenceCount, MAX_CAPITAL_EVIDENCE_COUNT);
+        return evidenceFees[cell(allIncomeEvidenceReceived, allCapitalEvidenceReceived, count)];
+    }
+
+    private static int cell(boolean allIncomeEvidenceReceived, boolean allCapitalEvidenceReceived, int count) {
+        return ((allIncomeEvidenceReceived ? 2 : 0) + (allCapitalEvidenceReceived ? 1 : 0)) * COUNTS + count;
+    }
+
+    private static int highestCapitalEvidenceBound() {
+        int highest = 0;
+        for (EvidenceFeeRules rule : EvidenceFeeRules.values()) {
+            highest = Math.max(highest, rule.getCapitalEvidenceItemsLower());
+            if (rule.getCapitalEvidenceItemsUpper() != null) {
+                highest = Math.max(highest, rule.getCapitalEvidenceItemsUpper());
+            }
+        }
+        return highest;
+    }
+
+    private static Map<String, ApiEvidenceFee[]> buildEvidenceFees() {
+        Map<String, ApiEvidenceFee[]> evidenceFees = new HashMap<>();
+        for (EvidenceFeeRules rule : EvidenceFeeRules.values()) {
+            ApiEvidenceFee[] cells =
+                    evidenceFees.computeIfAbsent(rule.getEmstCode(), k -> new ApiEvidenceFee[4 * COUNTS]);
+            boolean allIncomeEvidenceReceived = "Y".equals(rule.getAllIncomeEvidenceReceived());
+            boolean allCapitalEvidenceReceived = "Y".equals(rule.getAllCapitalEvidenceReceived());
+            for (int count = rule.getCapitalEvidenceItemsLower(); count < COUNTS; count++) {
+                if (rule.getCapitalEvidenceItemsUpper() != null && count > rule.getCapitalEvidenceItemsUpper()) {
+                    break;
+                }
+                int cell = cell(allIncomeEvidenceReceived, allCapitalEvidenceReceived, count);
+                if (cells[cell] == null) {
+                    cells[cell] = new ApiEvidenceFee()
+                            .withFeeLevel(rule.getEvidenceFeeLevel().getFeeLevel())
+                            .withDescription(rule.getEvidenceFeeLevel().getDescription());
+                }
+            }
+        }
+        return Map.copyOf(evidenceFees);
+    }
+}
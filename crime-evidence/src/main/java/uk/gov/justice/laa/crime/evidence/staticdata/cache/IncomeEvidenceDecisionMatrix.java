@@ -0,0 +1,151 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import uk.gov.justice.laa.crime.enums.EmploymentStatus;
+import uk.gov.justice.laa.crime.enums.MagCourtOutcome;
+import uk.gov.justice.laa.crime.evidence.staticdata.enums.ApplicantType;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Every possible income evidence decision, precomputed into a flat array.
+ * <p>
+ * All inputs to the rules are bounded: the magistrates' court outcome, the applicant's and partner's employment
+ * status (the partner's may be absent), the applicant type, and the pension amount, which only matters relative to
+ * the handful of distinct ANNUAL_PENSION_AMOUNT thresholds. The array is indexed by enum ordinals and the pension
+ * threshold bucket, so a lookup is index arithmetic and a single array read. Cells holding the same required id
+ * share one {@link IncomeEvidenceRequirement}; the evidence types it makes mandatory are held once, in the
+ * {@link IncomeEvidenceRequiredItemTable}.
+ */
+public final class IncomeEvidenceDecisionMatrix {
+
+    private static final MagCourtOutcome[] MAG_COURT_OUTCOMES = MagCourtOutcome.values();
+    private static final EmploymentStatus[] EMPLOYMENT_STATUSES = EmploymentStatus.values();
+    private static final ApplicantType[] APPLICANT_TYPES = ApplicantType.values();
+
+    // Partner slot 0 is "no partner employment status", ordinals are shifted up by one
+    private static final int PARTNER_SLOTS = EMPLOYMENT_STATUSES.length + 1;
+
+    // Estimates for a 64-bit JVM with compressed oops
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int REQUIREMENT_BYTES = 24;
+
+    private final int[] pensionThresholds;
+    private final IncomeEvidenceRequirement[] decisions;
+    private final Footprint footprint;
+
+    private IncomeEvidenceDecisionMatrix(
+            int[] pensionThresholds, IncomeEvidenceRequirement[] decisions, Footprint footprint) {
+        this.pensionThresholds = pensionThresholds;
+        this.decisions = decisions;
+        this.footprint = footprint;
+    }
+
+    public static IncomeEvidenceDecisionMatrix of(IncomeEvidenceRequiredIndex incomeEvidenceRequiredIndex) {
+        int[] pensionThresholds = incomeEvidenceRequiredIndex.pensionThresholds();
+        int buckets = pensionThresholds.length + 1;
+        int cells = MAG_COURT_OUTCOMES.length
+                * EMPLOYMENT_STATUSES.length
+                * PARTNER_SLOTS
+                * APPLICANT_TYPES.length
+                * buckets;
+        IncomeEvidenceRequirement[] decisions = new IncomeEvidenceRequirement[cells];
+
+        Map<Integer, IncomeEvidenceRequirement> shared = new HashMap<>();
+        int populated = 0;
+        for (MagCourtOutcome magCourtOutcome : MAG_COURT_OUTCOMES) {
+            for (EmploymentStatus applicantEmploymentStatus : EMPLOYMENT_STATUSES) {
+                for (int partnerSlot = 0; partnerSlot < PARTNER_SLOTS; partnerSlot++) {
+                    String partnerEmstCode =
+                            partnerSlot == 0 ? null : EMPLOYMENT_STATUSES[partnerSlot - 1].getCode();
+                    for (ApplicantType applicantType : APPLICANT_TYPES) {
+                        // Bucket 0 lies below the lowest threshold, where no rule can match
+                        for (int bucket = 1; bucket < buckets; bucket++) {
+                            IncomeEvidenceRequirement requirement = incomeEvidenceRequiredIndex.find(
+                                    magCourtOutcome.getOutcome(),
+                                    applicantEmploymentStatus.getCode(),
+                                    partnerEmstCode,
+                                    applicantType.toString(),
+                                    (double) pensionThresholds[bucket - 1]);
+                            if (requirement == null) {
+                                continue;
+                            }
+                            int cell = cell(
+                                    magCourtOutcome.ordinal(),
+                                    applicantEmploymentStatus.ordinal(),
+                                    partnerSlot,
+                                    applicantType.ordinal(),
+                                    bucket,
+                                    buckets);
+                            decisions[cell] = shared.computeIfAbsent(requirement.id(), id -> requirement);
+                            populated++;
+                        }
+                    }
+                }
+            }
+        }
+
+        long estimatedBytes = ARRAY_HEADER_BYTES
+                + (long) REFERENCE_BYTES * decisions.length
+                + ARRAY_HEADER_BYTES
+                + (long) Integer.BYTES * pensionThresholds.length
+                + (long) REQUIREMENT_BYTES * shared.size();
+        return new IncomeEvidenceDecisionMatrix(
+                pensionThresholds,
+                decisions,
+                new Footprint(decisions.length, populated, shared.size(), estimatedBytes));
+    }
+
+    private static int cell(
+            int magCourtOutcome,
+            int applicantEmploymentStatus,
+            int partnerSlot,
+            int applicantType,
+            int bucket,
+            int buckets) {
+        int cell = magCourtOutcome;
+        cell = cell * EMPLOYMENT_STATUSES.length + applicantEmploymentStatus;
+        cell = cell * PARTNER_SLOTS + partnerSlot;
+        cell = cell * APPLICANT_TYPES.length + applicantType;
+        return cell * buckets + bucket;
+    }
+
+    /**
+     * Equivalent to {@link IncomeEvidenceRequiredIndex#find}, a null pension amount is treated as zero.
+     */
+    public IncomeEvidenceRequirement find(
+            MagCourtOutcome magCourtOutcome,
+            EmploymentStatus applicantEmploymentStatus,
+            EmploymentStatus partnerEmploymentStatus,
+            ApplicantType applicantType,
+            BigDecimal pensionAmount) {
+        return decisions[cell(
+                magCourtOutcome.ordinal(),
+                applicantEmploymentStatus.ordinal(),
+                partnerEmploymentStatus != null ? partnerEmploymentStatus.ordinal() + 1 : 0,
+                applicantType.ordinal(),
+                bucket(pensionAmount != null ? pensionAmount.doubleValue() : 0d),
+                pensionThresholds.length + 1)];
+    }
+
+    private int bucket(double pensionAmount) {
+        // There are only ever a few thresholds, a linear scan beats a binary search here
+        int bucket = 0;
+        while (bucket < pensionThresholds.length && pensionThresholds[bucket] <= pensionAmount) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    public Footprint footprint() {
+        return footprint;
+    }
+
+    /**
+     * The size of the matrix; {@code estimatedBytes} covers the arrays and the shared requirements, assuming
+     * compressed oops.
+     */
+    public record Footprint(int cells, int populatedCells, int distinctDecisions, long estimatedBytes) {}
+}
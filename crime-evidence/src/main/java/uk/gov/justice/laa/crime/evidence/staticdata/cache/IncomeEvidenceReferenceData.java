@@ -0,0 +1,101 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.enums.EmploymentStatus;
+import uk.gov.justice.laa.crime.enums.MagCourtOutcome;
+import uk.gov.justice.laa.crime.evidence.staticdata.enums.ApplicantType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the income evidence rules in memory, so that resolving the evidence required for an
+ * applicant or partner does not need a database round trip.
+ * <p>
+ * The data is published as an immutable {@link IncomeEvidenceReferenceDataSnapshot}. Readers only ever
+ * dereference the current snapshot and never block; a reload builds a complete new snapshot off to the side and
+ * swaps it in atomically, so in-flight requests keep using the version they started with.
+ */
+@Slf4j
+@Component
+public class IncomeEvidenceReferenceData {
+
+    private final IncomeEvidenceReferenceDataSource incomeEvidenceReferenceDataSource;
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<IncomeEvidenceReferenceDataSnapshot> snapshot = new AtomicReference<>();
+
+    public IncomeEvidenceReferenceData(IncomeEvidenceReferenceDataSource incomeEvidenceReferenceDataSource) {
+        this.incomeEvidenceReferenceDataSource = incomeEvidenceReferenceDataSource;
+        reload();
+    }
+
+    public IncomeEvidenceReferenceDataSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public synchronized IncomeEvidenceReferenceDataSnapshot reload() {
+        // Read the fingerprint first: a change racing with the load is then picked up again by the next poll
+        ReferenceDataFingerprint fingerprint = incomeEvidenceReferenceDataSource.readFingerprint();
+        IncomeEvidenceRequiredIndex incomeEvidenceRequiredIndex =
+                IncomeEvidenceRequiredIndex.of(incomeEvidenceReferenceDataSource.findAllIncomeEvidenceRequired());
+        IncomeEvidenceRequiredItemTable incomeEvidenceRequiredItemTable = IncomeEvidenceRequiredItemTable.of(
+                incomeEvidenceReferenceDataSource.findAllIncomeEvidenceRequiredItems());
+        IncomeEvidenceReferenceDataSnapshot reloaded = new IncomeEvidenceReferenceDataSnapshot(
+                versions.incrementAndGet(),
+                Instant.now(),
+                fingerprint,
+                incomeEvidenceRequiredIndex,
+                incomeEvidenceRequiredItemTable,
+                IncomeEvidenceDecisionMatrix.of(incomeEvidenceRequiredIndex));
+        snapshot.set(reloaded);
+
+        IncomeEvidenceDecisionMatrix.Footprint footprint = reloaded.incomeEvidenceDecisionMatrix().footprint();
+        log.info(
+                "Loaded income evidence reference data version {}: {} required rules and {} required items",
+                reloaded.version(),
+                incomeEvidenceRequiredIndex.size(),
+                incomeEvidenceRequiredItemTable.size());
+        log.info(
+                "Income evidence decision matrix: {} cells ({} populated), {} distinct decisions, ~{} bytes",
+                footprint.cells(),
+                footprint.populatedCells(),
+                footprint.distinctDecisions(),
+                footprint.estimatedBytes());
+        return reloaded;
+    }
+
+    public synchronized boolean reloadIfChanged() {
+        ReferenceDataFingerprint fingerprint = incomeEvidenceReferenceDataSource.readFingerprint();
+        if (fingerprint.equals(snapshot.get().fingerprint())) {
+            return false;
+        }
+
+        log.info("Income evidence reference data has changed ({}), reloading", fingerprint);
+        reload();
+        return true;
+    }
+
+    public IncomeEvidenceRequirement findIncomeEvidenceRequired(
+            MagCourtOutcome magCourtOutcome,
+            EmploymentStatus applicantEmploymentStatus,
+            EmploymentStatus partnerEmploymentStatus,
+            ApplicantType applicantType,
+            BigDecimal pensionAmount) {
+        return snapshot.get()
+                .incomeEvidenceDecisionMatrix()
+                .find(
+                        magCourtOutcome,
+                        applicantEmploymentStatus,
+                        partnerEmploymentStatus,
+                        applicantType,
+                        pensionAmount);
+    }
+
+    public long getMandatoryEvidenceMask(int incomeEvidenceRequiredId) {
+        return snapshot.get().incomeEvidenceRequiredItemTable().getMandatoryEvidenceMask(incomeEvidenceRequiredId);
+    }
+}
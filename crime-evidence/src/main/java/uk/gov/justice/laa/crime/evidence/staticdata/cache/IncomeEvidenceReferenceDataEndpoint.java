@@ -0,0 +1,53 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint reporting the live income evidence reference data version and allowing a forced reload.
+ * <p>
+ * Reading the version is open like the other actuator endpoints; the reload is a write operation and so requires a
+ * token with the {@code evidence/admin} scope.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "referencedata")
+public class IncomeEvidenceReferenceDataEndpoint {
+
+    private final IncomeEvidenceReferenceData incomeEvidenceReferenceData;
+
+    @ReadOperation
+    public ReferenceDataVersion version() {
+        return ReferenceDataVersion.of(incomeEvidenceReferenceData.getSnapshot());
+    }
+
+    @WriteOperation
+    public ReferenceDataVersion reload() {
+        return ReferenceDataVersion.of(incomeEvidenceReferenceData.reload());
+    }
+
+    public record ReferenceDataVersion(
+            long version,
+            Instant loadedAt,
+            int requiredRules,
+            int requiredItems,
+            ReferenceDataFingerprint source,
+            IncomeEvidenceDecisionMatrix.Footprint decisionMatrix) {
+
+        static ReferenceDataVersion of(IncomeEvidenceReferenceDataSnapshot snapshot) {
+            return new ReferenceDataVersion(
+                    snapshot.version(),
+                    snapshot.loadedAt(),
+                    snapshot.incomeEvidenceRequiredIndex().size(),
+                    snapshot.incomeEvidenceRequiredItemTable().size(),
+                    snapshot.fingerprint(),
+                    snapshot.incomeEvidenceDecisionMatrix().footprint());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the income evidence tables and rebuilds the in-memory snapshot when their row counts or latest
+ * DATE_MODIFIED change, e.g. after the data has been patched outside of Liquibase.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reference-data.refresh.enabled", havingValue = "true", matchIfMissing = true)
+public class IncomeEvidenceReferenceDataRefresher {
+
+    private final IncomeEvidenceReferenceData incomeEvidenceReferenceData;
+
+    @Scheduled(
+            initialDelayString = "${reference-data.refresh.interval:PT5M}",
+            fixedDelayString = "${reference-data.refresh.interval:PT5M}")
+    public void refresh() {
+        try {
+            incomeEvidenceReferenceData.reloadIfChanged();
+        } catch (RuntimeException exception) {
+            log.error(
+                    "Unable to refresh income evidence reference data, keeping version {}",
+                    incomeEvidenceReferenceData.getSnapshot().version(),
+                    exception);
+        }
+    }
+}
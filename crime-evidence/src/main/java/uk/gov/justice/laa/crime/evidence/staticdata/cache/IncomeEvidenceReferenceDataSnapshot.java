@@ -0,0 +1,14 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import java.time.Instant;
+
+/**
+ * An immutable, versioned copy of the income_evidence_required and income_evidence_req_items tables.
+ */
+public record IncomeEvidenceReferenceDataSnapshot(
+        long version,
+        Instant loadedAt,
+        ReferenceDataFingerprint fingerprint,
+        IncomeEvidenceRequiredIndex incomeEvidenceRequiredIndex,
+        IncomeEvidenceRequiredItemTable incomeEvidenceRequiredItemTable,
+        IncomeEvidenceDecisionMatrix incomeEvidenceDecisionMatrix) {}
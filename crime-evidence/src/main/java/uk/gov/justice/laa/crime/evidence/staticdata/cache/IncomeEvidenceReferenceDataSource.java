@@ -0,0 +1,17 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredItemEntity;
+
+/**
+ * Where {@link IncomeEvidenceReferenceData} loads the income evidence rules from, selected by
+ * {@code reference-data.source}.
+ */
+public interface IncomeEvidenceReferenceDataSource {
+
+    ReferenceDataFingerprint readFingerprint();
+
+    Iterable<IncomeEvidenceRequiredEntity> findAllIncomeEvidenceRequired();
+
+    Iterable<IncomeEvidenceRequiredItemEntity> findAllIncomeEvidenceRequiredItems();
+}
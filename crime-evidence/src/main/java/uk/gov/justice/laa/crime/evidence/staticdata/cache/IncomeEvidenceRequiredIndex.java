@@ -0,0 +1,146 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable in-memory equivalent of
+ * {@code IncomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired}.
+ * <p>
+ * Rules are grouped by (MCOO_OUTCOME, APPLICANT_EMST_CODE, PARTNER_EMST_CODE, APPLICANT_PARTNER) and each group
+ * keeps its ANNUAL_PENSION_AMOUNT thresholds in ascending order, so a lookup is a single hash probe followed by a
+ * binary search for the highest threshold not above the pension amount.
+ */
+@Slf4j
+public final class IncomeEvidenceRequiredIndex {
+
+    private final Map<RuleKey, PensionThresholds> rules;
+
+    private IncomeEvidenceRequiredIndex(Map<RuleKey, PensionThresholds> rules) {
+        this.rules = rules;
+    }
+
+    public static IncomeEvidenceRequiredIndex of(Iterable<IncomeEvidenceRequiredEntity> entities) {
+        Map<RuleKey, List<IncomeEvidenceRequiredEntity>> grouped = new HashMap<>();
+        for (IncomeEvidenceRequiredEntity entity : entities) {
+            // The query matches these columns with '=', so rows holding a null can never be selected
+            if (entity.getMcooOutcome() == null
+                    || entity.getApplicantEmstCode() == null
+                    || entity.getApplicantPartner() == null) {
+                continue;
+            }
+            RuleKey key = new RuleKey(
+                    entity.getMcooOutcome(),
+                    entity.getApplicantEmstCode(),
+                    entity.getPartnerEmstCode(),
+                    entity.getApplicantPartner());
+            grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+        }
+
+        Map<RuleKey, PensionThresholds> rules = new HashMap<>();
+        grouped.forEach((key, group) -> rules.put(key, PensionThresholds.of(key, group)));
+        return new IncomeEvidenceRequiredIndex(Map.copyOf(rules));
+    }
+
+    /**
+     * Mirrors the native query: a null partner code only matches rules without a partner code, and a null
+     * pension amount is treated as zero.
+     */
+    public IncomeEvidenceRequirement find(
+            String mcooOutcome,
+            String applicantEmstCode,
+            String partnerEmstCode,
+            String applicantPartner,
+            Double annualPensionAmount) {
+        PensionThresholds thresholds =
+                rules.get(new RuleKey(mcooOutcome, applicantEmstCode, partnerEmstCode, applicantPartner));
+        if (thresholds == null) {
+            return null;
+        }
+        return thresholds.floor(annualPensionAmount != null ? annualPensionAmount : 0d);
+    }
+
+    public int size() {
+        return rules.values().stream().mapToInt(PensionThresholds::size).sum();
+    }
+
+    /**
+     * The distinct ANNUAL_PENSION_AMOUNT thresholds across all rules, in ascending order. No lookup can change its
+     * result between two adjacent thresholds.
+     */
+    public int[] pensionThresholds() {
+        return rules.values().stream()
+                .flatMapToInt(thresholds -> Arrays.stream(thresholds.amounts))
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    private record RuleKey(
+            String mcooOutcome, String applicantEmstCode, String partnerEmstCode, String applicantPartner) {}
+
+    private static final class PensionThresholds {
+        private final int[] amounts;
+        private final IncomeEvidenceRequirement[] requirements;
+
+        private PensionThresholds(int[] amounts, IncomeEvidenceRequirement[] requirements) {
+            this.amounts = amounts;
+            this.requirements = requirements;
+        }
+
+        static PensionThresholds of(RuleKey key, List<IncomeEvidenceRequiredEntity> group) {
+            List<IncomeEvidenceRequiredEntity> sorted = group.stream()
+                    .sorted(Comparator.comparingInt(IncomeEvidenceRequiredEntity::getAnnualPensionAmount)
+                            .thenComparingInt(IncomeEvidenceRequiredEntity::getId))
+                    .toList();
+
+            int[] amounts = new int[sorted.size()];
+            IncomeEvidenceRequirement[] requirements = new IncomeEvidenceRequirement[sorted.size()];
+            int size = 0;
+            for (IncomeEvidenceRequiredEntity entity : sorted) {
+                if (size > 0 && amounts[size - 1] == entity.getAnnualPensionAmount()) {
+                    // The database would fail with a non-unique result here; keep the lowest id deterministically
+                    log.warn(
+                            "Duplicate income evidence required rule {} at pension amount {}, ignoring id {}",
+                            key,
+                            entity.getAnnualPensionAmount(),
+                            entity.getId());
+                    continue;
+                }
+                amounts[size] = entity.getAnnualPensionAmount();
+                requirements[size] =
+                        new IncomeEvidenceRequirement(entity.getId(), entity.getEvidenceItemsRequired());
+                size++;
+            }
+
+            return new PensionThresholds(Arrays.copyOf(amounts, size), Arrays.copyOf(requirements, size));
+        }
+
+        IncomeEvidenceRequirement floor(double pensionAmount) {
+            int low = 0;
+            int high = amounts.length - 1;
+            int match = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (amounts[mid] <= pensionAmount) {
+                    match = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return match < 0 ? null : requirements[match];
+        }
+
+        int size() {
+            return amounts.length;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import uk.gov.justice.laa.crime.enums.evidence.IncomeEvidenceType;
+
+/**
+ * A row of the income_evidence_req_items table, reduced to what the service reads from it.
+ */
+public record IncomeEvidenceRequiredItem(IncomeEvidenceType evidenceType, boolean mandatory) {}
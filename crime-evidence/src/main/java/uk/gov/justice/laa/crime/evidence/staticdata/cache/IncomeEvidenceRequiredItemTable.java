@@ -0,0 +1,80 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredItemEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable in-memory equivalent of {@code IncomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId}.
+ * <p>
+ * The IEVR_IDs are held in a sorted {@code int[]} with the item lists in a parallel array, so a lookup is a
+ * binary search over primitives that returns a shared, unmodifiable list without allocating. The mandatory evidence
+ * types for each IEVR_ID are also held as an {@link IncomeEvidenceTypeMask}.
+ */
+public final class IncomeEvidenceRequiredItemTable {
+
+    private final int[] incomeEvidenceRequiredIds;
+    private final List<IncomeEvidenceRequiredItem>[] items;
+    private final long[] mandatoryEvidenceMasks;
+
+    private IncomeEvidenceRequiredItemTable(
+            int[] incomeEvidenceRequiredIds,
+            List<IncomeEvidenceRequiredItem>[] items,
+            long[] mandatoryEvidenceMasks) {
+        this.incomeEvidenceRequiredIds = incomeEvidenceRequiredIds;
+        this.items = items;
+        this.mandatoryEvidenceMasks = mandatoryEvidenceMasks;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static IncomeEvidenceRequiredItemTable of(Iterable<IncomeEvidenceRequiredItemEntity> entities) {
+        // Items keep the order in which they were read, as the repository query did
+        Map<Integer, List<IncomeEvidenceRequiredItem>> grouped = new TreeMap<>();
+        for (IncomeEvidenceRequiredItemEntity entity : entities) {
+            grouped.computeIfAbsent(entity.getIncomeEvidenceRequiredId(), k -> new ArrayList<>())
+                    .add(new IncomeEvidenceRequiredItem(
+                            EvidenceCodeRegistry.getIncomeEvidenceType(entity.getIncomeEvidenceRequiredDescription()),
+                            "Y".equals(entity.getMandatory())));
+        }
+
+        int[] incomeEvidenceRequiredIds = new int[grouped.size()];
+        List<IncomeEvidenceRequiredItem>[] items = new List[grouped.size()];
+        long[] mandatoryEvidenceMasks = new long[grouped.size()];
+        int index = 0;
+        for (Map.Entry<Integer, List<IncomeEvidenceRequiredItem>> entry : grouped.entrySet()) {
+            incomeEvidenceRequiredIds[index] = entry.getKey();
+            items[index] = List.copyOf(entry.getValue());
+            for (IncomeEvidenceRequiredItem item : items[index]) {
+                if (item.mandatory()) {
+                    mandatoryEvidenceMasks[index] |= IncomeEvidenceTypeMask.bit(item.evidenceType());
+                }
+            }
+            index++;
+        }
+        return new IncomeEvidenceRequiredItemTable(incomeEvidenceRequiredIds, items, mandatoryEvidenceMasks);
+    }
+
+    public List<IncomeEvidenceRequiredItem> get(int incomeEvidenceRequiredId) {
+        int index = Arrays.binarySearch(incomeEvidenceRequiredIds, incomeEvidenceRequiredId);
+        return index < 0 ? Collections.emptyList() : items[index];
+    }
+
+    public long getMandatoryEvidenceMask(int incomeEvidenceRequiredId) {
+        int index = Arrays.binarySearch(incomeEvidenceRequiredIds, incomeEvidenceRequiredId);
+        return index < 0 ? 0L : mandatoryEvidenceMasks[index];
+    }
+
+    public IntStream incomeEvidenceRequiredIds() {
+        return Arrays.stream(incomeEvidenceRequiredIds);
+    }
+
+    public int size() {
+        return Arrays.stream(items).mapToInt(List::size).sum();
+    }
+}
@@ -0,0 +1,6 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+/**
+ * The resolved row of the income_evidence_required table for a given set of rule inputs.
+ */
+public record IncomeEvidenceRequirement(int id, int evidenceItemsRequired) {}
@@ -0,0 +1,229 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.common.model.evidence.ApiIncomeEvidence;
+import uk.gov.justice.laa.crime.enums.EmploymentStatus;
+import uk.gov.justice.laa.crime.enums.MagCourtOutcome;
+import uk.gov.justice.laa.crime.enums.evidence.IncomeEvidenceType;
+import uk.gov.justice.laa.crime.evidence.config.ReferenceDataShadowConfiguration;
+import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredItemRepository;
+import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredRepository;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.enums.ApplicantType;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shadow mode for the in-memory income evidence rules.
+ * <p>
+ * For a sample of lookups, the original database queries are re-run on a single background thread and their
+ * results compared with what the request was actually served. Nothing here runs on, or can fail, the response
+ * path: when the queue is full the verification is dropped. Outcomes are counted in
+ * {@code evidence.reference.data.shadow} and mismatches are logged at most once per configured interval.
+ * <p>
+ * Shadow mode is switched off when the repositories are not available, as with the bundled reference data profile.
+ */
+@Slf4j
+@Component
+public class IncomeEvidenceShadowVerifier {
+
+    private static final String METRIC_NAME = "evidence.reference.data.shadow";
+
+    private final IncomeEvidenceRequiredRepository incomeEvidenceRequiredRepository;
+    private final IncomeEvidenceRequiredItemRepository incomeEvidenceRequiredItemRepository;
+    private final ReferenceDataShadowConfiguration configuration;
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+    private final Counter matches;
+    private final Counter mismatches;
+    private final Counter errors;
+    private final Counter dropped;
+    private final AtomicLong nextMismatchLog = new AtomicLong(System.nanoTime());
+    private final AtomicLong unloggedMismatches = new AtomicLong();
+
+    public IncomeEvidenceShadowVerifier(
+            ObjectProvider<IncomeEvidenceRequiredRepository> incomeEvidenceRequiredRepository,
+            ObjectProvider<IncomeEvidenceRequiredItemRepository> incomeEvidenceRequiredItemRepository,
+            ReferenceDataShadowConfiguration configuration,
+            MeterRegistry meterRegistry) {
+        this.incomeEvidenceRequiredRepository = incomeEvidenceRequiredRepository.getIfAvailable();
+        this.incomeEvidenceRequiredItemRepository = incomeEvidenceRequiredItemRepository.getIfAvailable();
+        this.configuration = configuration;
+        boolean repositoriesAvailable =
+                this.incomeEvidenceRequiredRepository != null && this.incomeEvidenceRequiredItemRepository != null;
+        if (configuration.isEnabled() && !repositoriesAvailable) {
+            log.warn("Reference data shadow mode is enabled but there is no database to verify against, disabling it");
+        }
+        this.enabled = configuration.isEnabled() && repositoriesAvailable;
+        this.matches = counter(meterRegistry, "match");
+        this.mismatches = counter(meterRegistry, "mismatch");
+        this.errors = counter(meterRegistry, "error");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, configuration.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "reference-data-shadow");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> dropped.increment());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("In-memory income evidence rule lookups verified against the database")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public void verifyIncomeEvidenceRequired(
+            MagCourtOutcome magCourtOutcome,
+            EmploymentStatus applicantEmploymentStatus,
+            EmploymentStatus partnerEmploymentStatus,
+            ApplicantType applicantType,
+            BigDecimal pensionAmount,
+            IncomeEvidenceRequirement served) {
+        if (!isSampled()) {
+            return;
+        }
+
+        String lookup = String.format(
+                "income evidence required (%s, %s, %s, %s, %s)",
+                magCourtOutcome,
+                applicantEmploymentStatus,
+                partnerEmploymentStatus,
+                applicantType,
+                pensionAmount);
+        executor.execute(() -> compare(lookup, served, () -> {
+            IncomeEvidenceRequiredEntity entity = incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
+                    magCourtOutcome.getOutcome(),
+                    applicantEmploymentStatus.getCode(),
+                    partnerEmploymentStatus != null ? partnerEmploymentStatus.getCode() : null,
+                    applicantType.toString(),
+                    pensionAmount != null ? pensionAmount.doubleValue() : null);
+            return entity != null
+                    ? new IncomeEvidenceRequirement(entity.getId(), entity.getEvidenceItemsRequired())
+                    : null;
+        }));
+    }
+
+    public void verifyDefaultEvidenceItems(int incomeEvidenceRequiredId, List<ApiIncomeEvidence> served) {
+        if (!isSampled()) {
+            return;
+        }
+
+        // Reduce what this request was served now, the shared templates must not be read off the response path
+        Map<IncomeEvidenceRequiredItem, Long> servedItems = countItems(served.stream()
+                .map(evidence -> new IncomeEvidenceRequiredItem(
+                        evidence.getEvidenceType(), Boolean.TRUE.equals(evidence.getMandatory())))
+                .toList());
+        String lookup = "default evidence items " + incomeEvidenceRequiredId;
+        executor.execute(() -> compare(
+                lookup, servedItems, () -> countItems(findIncomeEvidenceRequiredItems(incomeEvidenceRequiredId))));
+    }
+
+    public void verifyMandatoryEvidence(int incomeEvidenceRequiredId, long servedMandatoryEvidenceMask) {
+        if (!isSampled()) {
+            return;
+        }
+
+        String lookup = "mandatory evidence " + incomeEvidenceRequiredId;
+        executor.execute(() -> compare(
+                lookup,
+                mandatoryEvidenceTypes(servedMandatoryEvidenceMask),
+                () -> findIncomeEvidenceRequiredItems(incomeEvidenceRequiredId).stream()
+                        .filter(IncomeEvidenceRequiredItem::mandatory)
+                        .map(IncomeEvidenceRequiredItem::evidenceType)
+                        .collect(Collectors.toCollection(() -> EnumSet.noneOf(IncomeEvidenceType.class)))));
+    }
+
+    private List<IncomeEvidenceRequiredItem> findIncomeEvidenceRequiredItems(int incomeEvidenceRequiredId) {
+        return incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(incomeEvidenceRequiredId).stream()
+                .map(item -> new IncomeEvidenceRequiredItem(
+                        EvidenceCodeRegistry.getIncomeEvidenceType(item.getIncomeEvidenceRequiredDescription()),
+                        "Y".equals(item.getMandatory())))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean isSampled() {
+        return enabled && ThreadLocalRandom.current().nextDouble() < configuration.getSampleRate();
+    }
+
+    // The database may return the items in any order
+    private static Map<IncomeEvidenceRequiredItem, Long> countItems(List<IncomeEvidenceRequiredItem> items) {
+        return items.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    private static Set<IncomeEvidenceType> mandatoryEvidenceTypes(long mandatoryEvidenceMask) {
+        Set<IncomeEvidenceType> evidenceTypes = EnumSet.noneOf(IncomeEvidenceType.class);
+        for (IncomeEvidenceType evidenceType : IncomeEvidenceType.values()) {
+            if ((mandatoryEvidenceMask & IncomeEvidenceTypeMask.bit(evidenceType)) != 0L) {
+                evidenceTypes.add(evidenceType);
+            }
+        }
+        return evidenceTypes;
+    }
+
+    private <T> void compare(String lookup, T served, Supplier<T> query) {
+        try {
+            T expected = query.get();
+            if (Objects.equals(served, expected)) {
+                matches.increment();
+            } else {
+                mismatches.increment();
+                logMismatch(lookup, served, expected);
+            }
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.debug("Unable to verify {} against the database", lookup, e);
+        }
+    }
+
+    private void logMismatch(String lookup, Object served, Object expected) {
+        long now = System.nanoTime();
+        long next = nextMismatchLog.get();
+        if (now - next >= 0
+                && nextMismatchLog.compareAndSet(next, now + configuration.getMismatchLogInterval().toNanos())) {
+            log.warn(
+                    "Reference data shadow mismatch for {}: served {} but the database returned {} "
+                            + "({} earlier mismatches not logged)",
+                    lookup,
+                    served,
+                    expected,
+                    unloggedMismatches.getAndSet(0));
+        } else {
+            unloggedMismatches.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import uk.gov.justice.laa.crime.enums.evidence.IncomeEvidenceType;
+
+/**
+ * Represents a set of {@link IncomeEvidenceType}s as a {@code long} with one bit per enum ordinal.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IncomeEvidenceTypeMask {
+
+    static {
+        if (IncomeEvidenceType.values().length > Long.SIZE) {
+            throw new IllegalStateException("IncomeEvidenceType has too many constants to be held in a long");
+        }
+    }
+
+    public static long bit(IncomeEvidenceType evidenceType) {
+        return 1L << evidenceType.ordinal();
+    }
+}
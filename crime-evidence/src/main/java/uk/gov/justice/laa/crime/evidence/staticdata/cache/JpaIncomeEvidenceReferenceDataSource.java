@@ -0,0 +1,41 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import lombok.RequiredArgsConstructor;
+import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredItemRepository;
+import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredRepository;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredItemEntity;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the income evidence rules from the tables seeded by Liquibase. This is the default source.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reference-data.source", havingValue = "sql", matchIfMissing = true)
+public class JpaIncomeEvidenceReferenceDataSource implements IncomeEvidenceReferenceDataSource {
+
+    private final IncomeEvidenceRequiredRepository incomeEvidenceRequiredRepository;
+    private final IncomeEvidenceRequiredItemRepository incomeEvidenceRequiredItemRepository;
+
+    @Override
+    public ReferenceDataFingerprint readFingerprint() {
+        return new ReferenceDataFingerprint(
+                incomeEvidenceRequiredRepository.count(),
+                incomeEvidenceRequiredRepository.findLastModifiedDateTime(),
+                incomeEvidenceRequiredItemRepository.count(),
+                incomeEvidenceRequiredItemRepository.findLastModifiedDateTime());
+    }
+
+    @Override
+    public Iterable<IncomeEvidenceRequiredEntity> findAllIncomeEvidenceRequired() {
+        return incomeEvidenceRequiredRepository.findAll();
+    }
+
+    @Override
+    public Iterable<IncomeEvidenceRequiredItemEntity> findAllIncomeEvidenceRequiredItems() {
+        return incomeEvidenceRequiredItemRepository.findAll();
+    }
+}
@@ -0,0 +1,12 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap summary of the income evidence tables, compared on each poll to decide whether a rebuild is needed.
+ */
+public record ReferenceDataFingerprint(
+        long requiredRowCount,
+        LocalDateTime requiredLastModified,
+        long requiredItemRowCount,
+        LocalDateTime requiredItemLastModified) {}
@@ -3,11 +3,6 @@ package uk.gov.justice.laa.crime.evidence.staticdata.enums;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import uk.gov.justice.laa.crime.enums.EvidenceFeeLevel;
-import uk.gov.justice.laa.crime.evidence.dto.EvidenceFeeRulesDTO;
-
-import java.util.stream.Stream;
-
-import org.apache.commons.lang3.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -39,32 +34,4 @@ public enum EvidenceFeeRules {
     private final Integer capitalEvidenceItemsLower;
     private final Integer capitalEvidenceItemsUpper;
     private final EvidenceFeeLevel evidenceFeeLevel;
-
-    public static EvidenceFeeRules getFrom(EvidenceFeeRulesDTO evidenceFeeRulesDTO) {
-        if (validateEvidenceFeeRulesDTO(evidenceFeeRulesDTO)) return null;
-
-        return Stream.of(EvidenceFeeRules.values())
-                .filter(f -> isEquals(f, evidenceFeeRulesDTO))
-                .findFirst()
-                .orElse(null);
-    }
-
-    private static boolean validateEvidenceFeeRulesDTO(EvidenceFeeRulesDTO evidenceFeeRulesDTO) {
-        return evidenceFeeRulesDTO == null
-                || (StringUtils.isBlank(evidenceFeeRulesDTO.getEmstCode())
-                        || StringUtils.isBlank(evidenceFeeRulesDTO.getAllIncomeEvidenceReceived())
-                        || StringUtils.isBlank(evidenceFeeRulesDTO.getAllCapitalEvidenceReceived())
-                        || evidenceFeeRulesDTO.getCapitalEvidenceItemsLower() == null);
-    }
-
-    private static boolean isEquals(EvidenceFeeRules evidenceFeeRules, EvidenceFeeRulesDTO evidenceFeeRulesDTO) {
-        return evidenceFeeRules.emstCode.equals(evidenceFeeRulesDTO.getEmstCode())
-                && evidenceFeeRules.allIncomeEvidenceReceived.equals(evidenceFeeRulesDTO.getAllIncomeEvidenceReceived())
-                && evidenceFeeRules.allCapitalEvidenceReceived.equals(
-                        evidenceFeeRulesDTO.getAllCapitalEvidenceReceived())
-                && evidenceFeeRules.capitalEvidenceItemsLower <= evidenceFeeRulesDTO.getCapitalEvidenceItemsLower()
-                && (evidenceFeeRules.capitalEvidenceItemsUpper == null
-                        || evidenceFeeRules.capitalEvidenceItemsUpper
-                                >= evidenceFeeRulesDTO.getCapitalEvidenceItemsUpper());
-    }
 }
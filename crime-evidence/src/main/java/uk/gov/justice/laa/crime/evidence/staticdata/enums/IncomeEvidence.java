@@ -3,7 +3,8 @@ package uk.gov.justice.laa.crime.evidence.staticdata.enums;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import java.util.stream.Stream;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -47,13 +48,26 @@ public enum IncomeEvidence {
     private final String welshLetterDescription;
     private final String adhoc;
 
+    // Keeps the first constant for each code, as the linear scan this replaced did
+    private static final Map<String, IncomeEvidence> BY_EVIDENCE;
+
+    static {
+        Map<String, IncomeEvidence> byEvidence = new HashMap<>();
+        for (IncomeEvidence incomeEvidence : values()) {
+            byEvidence.putIfAbsent(incomeEvidence.getEvidence(), incomeEvidence);
+        }
+        BY_EVIDENCE = Map.copyOf(byEvidence);
+    }
+
     public static IncomeEvidence getFrom(String type) {
-        if (StringUtils.isBlank(type)) return null;
+        if (StringUtils.isBlank(type)) {
+            return null;
+        }
 
-        return Stream.of(IncomeEvidence.values())
-                .filter(ie -> ie.evidence.equals(type))
-                .findFirst()
-                .orElseThrow(() ->
-                        new IllegalArgumentException(String.format("Income evidence : %s does not exist.", type)));
+        IncomeEvidence incomeEvidence = BY_EVIDENCE.get(type);
+        if (incomeEvidence == null) {
+            throw new IllegalArgumentException(String.format("Income evidence : %s does not exist.", type));
+        }
+        return incomeEvidence;
     }
 }
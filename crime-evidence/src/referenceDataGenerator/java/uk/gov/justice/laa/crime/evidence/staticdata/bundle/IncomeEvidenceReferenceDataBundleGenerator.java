@@ -0,0 +1,172 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.bundle;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredItemEntity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Build-time tool that turns the Liquibase changesets seeding the income evidence tables into an
+ * {@link IncomeEvidenceReferenceDataBundle}.
+ * <p>
+ * Lives in its own source set so it is not shipped in the application jar, and is run by the
+ * {@code generateReferenceDataBundle} Gradle task with the required rules changeset, the required items changeset
+ * and the output file as arguments. Only single-line {@code Insert into ... values (...)} statements are
+ * understood, which is how both changesets are written.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IncomeEvidenceReferenceDataBundleGenerator {
+
+    private static final Pattern INSERT = Pattern.compile(
+            "^\\s*insert\\s+into\\s+\\S+?\\s*\\(([^)]*)\\)\\s*values\\s*\\((.*)\\)\\s*;?\\s*$",
+            Pattern.CASE_INSENSITIVE);
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: IncomeEvidenceReferenceDataBundleGenerator "
+                    + "<required rules changeset> <required items changeset> <output file>");
+        }
+
+        IncomeEvidenceReferenceDataBundle.Contents contents = new IncomeEvidenceReferenceDataBundle.Contents(
+                parseIncomeEvidenceRequired(Files.readAllLines(Path.of(args[0]))),
+                parseIncomeEvidenceRequiredItems(Files.readAllLines(Path.of(args[1]))));
+
+        Path output = Path.of(args[2]);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream outputStream = Files.newOutputStream(output)) {
+            IncomeEvidenceReferenceDataBundle.write(contents, outputStream);
+        }
+    }
+
+    static List<IncomeEvidenceRequiredEntity> parseIncomeEvidenceRequired(List<String> lines) {
+        return parseInserts(lines).stream()
+                .map(row -> IncomeEvidenceRequiredEntity.builder()
+                        .id(Integer.parseInt(row.get("ID")))
+                        .mcooOutcome(row.get("MCOO_OUTCOME"))
+                        .applicantEmstCode(row.get("APPLICANT_EMST_CODE"))
+                        .evidenceItemsRequired(Integer.parseInt(row.get("EVIDENCE_ITEMS_REQUIRED")))
+                        .annualPensionAmount(toInteger(row.get("ANNUAL_PENSION_AMOUNT")))
+                        .applicantPartner(row.get("APPLICANT_PARTNER"))
+                        .partnerEmstCode(row.get("PARTNER_EMST_CODE"))
+                        .build())
+                .toList();
+    }
+
+    static List<IncomeEvidenceRequiredItemEntity> parseIncomeEvidenceRequiredItems(List<String> lines) {
+        return parseInserts(lines).stream()
+                .map(row -> IncomeEvidenceRequiredItemEntity.builder()
+                        .id(Integer.parseInt(row.get("ID")))
+                        .incomeEvidenceRequiredId(Integer.parseInt(row.get("IEVR_ID")))
+                        .incomeEvidenceRequiredDescription(row.get("INEV_EVIDENCE"))
+                        .mandatory(row.get("MANDATORY"))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Parses each insert statement into a map of upper-cased column name to value. Quoted values are unquoted,
+     * {@code null} becomes a Java null and anything else, e.g. a number or function call, is kept as written.
+     */
+    static List<Map<String, String>> parseInserts(List<String> lines) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (String line : lines) {
+            Matcher matcher = INSERT.matcher(line);
+            if (!matcher.matches()) {
+                continue;
+            }
+
+            String[] columns = matcher.group(1).split(",");
+            List<String> values = splitValues(matcher.group(2));
+            if (columns.length != values.size()) {
+                throw new IllegalArgumentException("Column and value counts differ in: " + line);
+            }
+
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < columns.length; i++) {
+                row.put(columns[i].trim().toUpperCase(Locale.ROOT), values.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<String> splitValues(String valueList) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int depth = 0;
+        for (int i = 0; i < valueList.length(); i++) {
+            char c = valueList.charAt(i);
+            if (quoted) {
+                boolean escapedQuote =
+                        c == '\'' && i + 1 < valueList.length() && valueList.charAt(i + 1) == '\'';
+                if (c == '\'' && !escapedQuote) {
+                    quoted = false;
+                    // Quotes are only stripped from top-level values, not from function arguments
+                    if (depth > 0) {
+                        value.append(c);
+                    }
+                } else {
+                    value.append(c);
+                    if (escapedQuote) {
+                        i++;
+                        if (depth > 0) {
+                            value.append(c);
+                        }
+                    }
+                }
+            } else if (c == '\'') {
+                quoted = true;
+                if (depth == 0) {
+                    wasQuoted = true;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == ',' && depth == 0) {
+                values.add(toValue(value, wasQuoted));
+                value.setLength(0);
+                wasQuoted = false;
+            } else {
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                }
+                value.append(c);
+            }
+        }
+        values.add(toValue(value, wasQuoted));
+        return values;
+    }
+
+    private static String toValue(StringBuilder value, boolean wasQuoted) {
+        if (wasQuoted) {
+            return value.toString();
+        }
+        String unquoted = value.toString().trim();
+        return "null".equalsIgnoreCase(unquoted) ? null : unquoted;
+    }
+
+    // ANNUAL_PENSION_AMOUNT is an INTEGER column, so the database rounds values such as 12000.01 on insert
+    private static int toInteger(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("A null ANNUAL_PENSION_AMOUNT cannot be bundled");
+        }
+        return new BigDecimal(value).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+}
@@ -0,0 +1,162 @@
+package uk.gov.justice.laa.crime.evidence.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.evidence.config.MaatApiTokenConfiguration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2ClientCredentialsGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthorizationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+
+@ExtendWith(MockitoExtension.class)
+class ClientCredentialsTokenManagerTest {
+
+    private static final ClientRegistration CLIENT_REGISTRATION = ClientRegistration.withRegistrationId("maat-api")
+            .clientId("dummy-client")
+            .clientSecret("dummy-secret")
+            .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+            .tokenUri("http://localhost/oauth2/token")
+            .build();
+    private static final OAuth2AuthorizeRequest AUTHORIZE_REQUEST = OAuth2AuthorizeRequest.withClientRegistrationId(
+                    CLIENT_REGISTRATION.getRegistrationId())
+            .principal("anonymousUser")
+            .build();
+
+    @Mock
+    private OAuth2AccessTokenResponseClient<OAuth2ClientCredentialsGrantRequest> tokenResponseClient;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ClientCredentialsTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        tokenManager = new ClientCredentialsTokenManager(
+                CLIENT_REGISTRATION, tokenResponseClient, new MaatApiTokenConfiguration(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenManager.shutdown();
+    }
+
+    private static OAuth2AccessTokenResponse buildTokenResponse(String token, long expiresIn) {
+        return OAuth2AccessTokenResponse.withToken(token)
+                .tokenType(OAuth2AccessToken.TokenType.BEARER)
+                .expiresIn(expiresIn)
+                .build();
+    }
+
+    private static OAuth2AccessToken buildAccessToken(Instant issuedAt, Duration lifetime) {
+        return new OAuth2AccessToken(
+                OAuth2AccessToken.TokenType.BEARER, "token", issuedAt, issuedAt.plus(lifetime), Set.of());
+    }
+
+    private long refreshes(String outcome) {
+        return meterRegistry
+                .get("maat.api.token.refresh")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    @Test
+    void givenAFetchedToken_whenRequestsAreAuthorized_thenTheTokenIsShared() {
+        when(tokenResponseClient.getTokenResponse(any())).thenReturn(buildTokenResponse("token", 3600));
+
+        OAuth2AuthorizedClient first = tokenManager.authorize(AUTHORIZE_REQUEST);
+        OAuth2AuthorizedClient second = tokenManager.authorize(AUTHORIZE_REQUEST);
+
+        assertThat(second.getAccessToken().getTokenValue()).isEqualTo("token");
+        assertThat(second).isSameAs(first);
+        verify(tokenResponseClient, times(1)).getTokenResponse(any());
+        assertThat(refreshes("success")).isEqualTo(1);
+        assertThat(meterRegistry.get("maat.api.token.expiry").gauge().value()).isGreaterThan(3500);
+    }
+
+    @Test
+    void givenAnExpiredToken_whenARequestIsAuthorized_thenANewTokenIsFetched() {
+        when(tokenResponseClient.getTokenResponse(any()))
+                .thenReturn(buildTokenResponse("expiring", 1), buildTokenResponse("token", 3600));
+
+        tokenManager.authorize(AUTHORIZE_REQUEST);
+
+        assertThat(tokenManager.hasValidToken()).isFalse();
+        assertThat(tokenManager.authorize(AUTHORIZE_REQUEST).getAccessToken().getTokenValue())
+                .isEqualTo("token");
+    }
+
+    @Test
+    void givenARejectedToken_whenItIsInvalidated_thenTheNextRequestFetchesANewToken() {
+        when(tokenResponseClient.getTokenResponse(any()))
+                .thenReturn(buildTokenResponse("rejected", 3600), buildTokenResponse("token", 3600));
+        tokenManager.authorize(AUTHORIZE_REQUEST);
+
+        tokenManager.invalidate();
+
+        assertThat(tokenManager.hasValidToken()).isFalse();
+        assertThat(tokenManager.authorize(AUTHORIZE_REQUEST).getAccessToken().getTokenValue())
+                .isEqualTo("token");
+    }
+
+    @Test
+    void givenTheTokenEndpointFails_whenATokenIsFetched_thenTheFailureIsMetered() {
+        when(tokenResponseClient.getTokenResponse(any()))
+                .thenThrow(new OAuth2AuthorizationException(new OAuth2Error("invalid_client")));
+
+        assertThatThrownBy(() -> tokenManager.authorize(AUTHORIZE_REQUEST))
+                .isInstanceOf(OAuth2AuthorizationException.class);
+        assertThat(refreshes("failure")).isEqualTo(1);
+        assertThat(tokenManager.hasValidToken()).isFalse();
+    }
+
+    @Test
+    void givenStartup_whenTheManagerStarts_thenATokenIsFetchedInTheBackground() {
+        when(tokenResponseClient.getTokenResponse(any())).thenReturn(buildTokenResponse("token", 3600));
+
+        tokenManager.start();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!tokenManager.hasValidToken() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(tokenManager.hasValidToken()).isTrue();
+    }
+
+    @Test
+    void givenAnHourLongToken_whenTheNextRefreshIsScheduled_thenItIsDueTheRefreshAheadBeforeExpiry() {
+        Duration untilRefresh = tokenManager.untilRefresh(buildAccessToken(Instant.now(), Duration.ofHours(1)));
+
+        assertThat(untilRefresh).isBetween(Duration.ofMinutes(54), Duration.ofMinutes(55));
+    }
+
+    @Test
+    void givenAShortLivedToken_whenTheNextRefreshIsScheduled_thenItIsDueHalfwayThroughItsLifetime() {
+        Duration untilRefresh = tokenManager.untilRefresh(buildAccessToken(Instant.now(), Duration.ofMinutes(2)));
+
+        assertThat(untilRefresh).isBetween(Duration.ofSeconds(59), Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,189 @@
+package uk.gov.justice.laa.crime.evidence.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import uk.gov.justice.laa.crime.evidence.config.MaatApiWarmUpConfiguration;
+import uk.gov.justice.laa.crime.evidence.config.ServicesConfiguration;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import com.sun.net.httpserver.HttpServer;
+
+@ExtendWith(MockitoExtension.class)
+class MaatApiWarmUpTest {
+
+    private static final int CONNECTIONS = 5;
+    private static final String ACCESS_TOKEN = "access-token";
+
+    @Mock
+    private ClientCredentialsTokenManager maatApiTokenManager;
+
+    private final Set<InetSocketAddress> clients = ConcurrentHashMap.newKeySet();
+    private final Set<String> requests = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CONNECTIONS);
+    private final ConnectionProvider connectionProvider =
+            ConnectionProvider.builder("warm-up-test").maxConnections(50).build();
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            clients.add(exchange.getRemoteAddress());
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI() + " "
+                    + exchange.getRequestHeaders().getFirst("Authorization"));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+        connectionProvider.dispose();
+    }
+
+    private MaatApiWarmUp buildWarmUp(int port) {
+        return buildWarmUp(port, true);
+    }
+
+    private MaatApiWarmUp buildWarmUp(int port, boolean enabled) {
+        MaatApiWarmUpConfiguration configuration = new MaatApiWarmUpConfiguration();
+        configuration.setEnabled(enabled);
+        configuration.setConnections(CONNECTIONS);
+        configuration.setTimeout(Duration.ofSeconds(5));
+        ServicesConfiguration servicesConfiguration = new ServicesConfiguration();
+        servicesConfiguration.setMaatApi(new ServicesConfiguration.MaatApi("http://localhost:" + port, "maat-api"));
+        return new MaatApiWarmUp(
+                HttpClient.create(connectionProvider), maatApiTokenManager, servicesConfiguration, configuration);
+    }
+
+    private void givenAnAccessToken() {
+        OAuth2AuthorizedClient client = mock(OAuth2AuthorizedClient.class);
+        when(client.getAccessToken())
+                .thenReturn(new OAuth2AccessToken(
+                        OAuth2AccessToken.TokenType.BEARER,
+                        ACCESS_TOKEN,
+                        Instant.now(),
+                        Instant.now().plusSeconds(60)));
+        when(maatApiTokenManager.authorize(any())).thenReturn(client);
+    }
+
+    @Test
+    void givenNoToken_whenWarmingUp_thenATokenIsFetchedAndEachConnectionIsOpened() {
+        when(maatApiTokenManager.hasValidToken()).thenReturn(false);
+        givenAnAccessToken();
+
+        buildWarmUp(server.getAddress().getPort()).warmUp();
+
+        verify(maatApiTokenManager).fetch();
+        assertThat(clients).hasSize(CONNECTIONS);
+    }
+
+    @Test
+    void givenAnAccessToken_whenWarmingUp_thenEachConnectionIsOpenedWithAnAuthenticatedOptionsRequest() {
+        when(maatApiTokenManager.hasValidToken()).thenReturn(true);
+        givenAnAccessToken();
+
+        buildWarmUp(server.getAddress().getPort()).warmUp();
+
+        assertThat(requests).containsExactly("OPTIONS /rep-orders/0/capital-assets/count Bearer " + ACCESS_TOKEN);
+    }
+
+    @Test
+    void givenAValidToken_whenWarmingUp_thenNoTokenIsFetched() {
+        when(maatApiTokenManager.hasValidToken()).thenReturn(true);
+        givenAnAccessToken();
+
+        buildWarmUp(server.getAddress().getPort()).warmUp();
+
+        verify(maatApiTokenManager, never()).fetch();
+    }
+
+    @Test
+    void givenAWarmUpInProgress_whenTheApplicationRuns_thenTheRunnerOnlyReturnsOnceTheWarmUpHasFinished()
+            throws Exception {
+        CountDownLatch tokenRequested = new CountDownLatch(1);
+        CountDownLatch tokenReleased = new CountDownLatch(1);
+        when(maatApiTokenManager.hasValidToken()).thenReturn(false);
+        when(maatApiTokenManager.fetch()).thenAnswer(invocation -> {
+            tokenRequested.countDown();
+            tokenReleased.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        givenAnAccessToken();
+        MaatApiWarmUp warmUp = buildWarmUp(server.getAddress().getPort());
+
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> warmUp.run(null));
+        assertThat(tokenRequested.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(running).isNotDone();
+
+        tokenReleased.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        assertThat(clients).hasSize(CONNECTIONS);
+    }
+
+    @Test
+    void givenNoAccessToken_whenWarmingUp_thenNoConnectionsAreOpened() {
+        when(maatApiTokenManager.hasValidToken()).thenReturn(false);
+        when(maatApiTokenManager.fetch()).thenThrow(new IllegalStateException("token endpoint unavailable"));
+
+        buildWarmUp(server.getAddress().getPort()).warmUp();
+
+        assertThat(clients).isEmpty();
+    }
+
+    @Test
+    void givenWarmUpIsDisabled_whenWarmingUp_thenNothingIsCalled() {
+        buildWarmUp(server.getAddress().getPort(), false).warmUp();
+
+        verifyNoInteractions(maatApiTokenManager);
+        assertThat(clients).isEmpty();
+    }
+
+    @Test
+    void givenTheMaatApiIsUnavailable_whenWarmingUp_thenTheFailureIsNotThrown() throws IOException {
+        when(maatApiTokenManager.hasValidToken()).thenReturn(true);
+        givenAnAccessToken();
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+
+        buildWarmUp(closedPort).warmUp();
+
+        assertThat(clients).isEmpty();
+    }
+}
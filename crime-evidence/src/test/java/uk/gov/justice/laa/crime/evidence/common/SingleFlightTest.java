@@ -0,0 +1,107 @@
+package uk.gov.justice.laa.crime.evidence.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<Integer, Integer> singleFlight = new SingleFlight<>("test", meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double collapsed() {
+        return meterRegistry
+                .get("maat.api.calls.collapsed")
+                .tag("operation", "test")
+                .counter()
+                .count();
+    }
+
+    @Test
+    void givenACallInFlight_whenTheSameKeyIsRequested_thenTheCallerSharesItsResult() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Future<Integer> leader = executor.submit(() -> singleFlight.execute(1, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 5;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<Integer> follower = executor.submit(() -> singleFlight.execute(1, calls::incrementAndGet));
+        while (collapsed() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(5);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(5);
+        assertThat(calls).hasValue(1);
+        assertThat(collapsed()).isEqualTo(1);
+    }
+
+    @Test
+    void givenACallInFlightFails_whenTheSameKeyWasRequested_thenTheCallerSharesTheFailure() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> singleFlight.execute(1, () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("MAAT API unavailable");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<?> follower = executor.submit(() -> {
+            assertThatThrownBy(() -> singleFlight.execute(1, () -> 7))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("MAAT API unavailable");
+            return null;
+        });
+        while (collapsed() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        follower.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void givenACompletedCall_whenTheSameKeyIsRequested_thenANewCallIsMade() {
+        assertThat(singleFlight.execute(1, () -> 5)).isEqualTo(5);
+        assertThat(singleFlight.execute(1, () -> 7)).isEqualTo(7);
+        assertThat(collapsed()).isZero();
+    }
+
+    @Test
+    void givenANullKey_whenExecuteIsInvoked_thenTheCallIsMadeDirectly() {
+        assertThat(singleFlight.execute(null, () -> 5)).isEqualTo(5);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.codec.dns.DatagramDnsQuery;
+import io.netty.handler.codec.dns.DatagramDnsQueryDecoder;
+import io.netty.handler.codec.dns.DatagramDnsResponse;
+import io.netty.handler.codec.dns.DatagramDnsResponseEncoder;
+import io.netty.handler.codec.dns.DefaultDnsRawRecord;
+import io.netty.handler.codec.dns.DnsQuestion;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsSection;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.resolver.InetSocketAddressResolver;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.SingletonDnsServerAddressStreamProvider;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
+import javax.naming.directory.InitialDirContext;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Compares connection establishment through the two {@link DnsResolverConfiguration.Mode}s against a local DNS
+ * stand-in that answers every A query for 127.0.0.1 after a fixed delay, as a remote DNS server would.
+ * <p>
+ * Every request opens a new connection to one of a handful of host names, all served by a local HTTP server, on a
+ * single event loop. The blocking mode is stood in for by a resolver that, like the JDK's, looks names up
+ * synchronously on the event loop and caches the answers; the async mode uses Netty's resolver pointed at the
+ * stand-in. Run with {@code ./gradlew benchmark}; results are logged rather than asserted, as they depend on the
+ * machine.
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DnsResolverBenchmarkTest {
+
+    private static final Duration DNS_DELAY = Duration.ofMillis(20);
+    private static final int HOST_NAMES = 20;
+    private static final int REQUESTS = 400;
+    private static final int CONCURRENCY = 20;
+
+    private final EventLoopGroup dnsLoop = new NioEventLoopGroup(1);
+    private final ExecutorService httpExecutor = Executors.newFixedThreadPool(CONCURRENCY);
+    private Channel dnsServer;
+    private HttpServer httpServer;
+
+    @BeforeAll
+    void startServers() throws Exception {
+        dnsServer = new Bootstrap()
+                .group(dnsLoop)
+                .channel(NioDatagramChannel.class)
+                .handler(new ChannelInitializer<DatagramChannel>() {
+                    @Override
+                    protected void initChannel(DatagramChannel channel) {
+                        channel.pipeline()
+                                .addLast(new DatagramDnsQueryDecoder())
+                                .addLast(new DatagramDnsResponseEncoder())
+                                .addLast(new DnsStandIn());
+                    }
+                })
+                .bind(InetAddress.getLoopbackAddress(), 0)
+                .sync()
+                .channel();
+
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.setExecutor(httpExecutor);
+        httpServer.createContext("/", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        httpServer.start();
+    }
+
+    @AfterAll
+    void stopServers() {
+        httpServer.stop(0);
+        httpExecutor.shutdownNow();
+        dnsServer.close();
+        dnsLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void givenBothResolverModes_whenNewConnectionsAreOpened_thenTheirLatenciesAreReported() {
+        InetSocketAddress dnsAddress = (InetSocketAddress) dnsServer.localAddress();
+
+        long[] blocking = run(DnsResolverConfiguration.Mode.BLOCKING, new BlockingResolverGroup(dnsAddress));
+        long[] async = run(
+                DnsResolverConfiguration.Mode.ASYNC,
+                new DnsAddressResolverGroup(new DnsNameResolverBuilder()
+                        .channelType(NioDatagramChannel.class)
+                        .nameServerProvider(new SingletonDnsServerAddressStreamProvider(dnsAddress))
+                        .resolvedAddressTypes(ResolvedAddressTypes.IPV4_ONLY)
+                        .optResourceEnabled(false)
+                        .resolveCache(new DefaultDnsCache(0, (int) Duration.ofMinutes(5).toSeconds(), 0))));
+
+        assertThat(blocking).hasSize(REQUESTS);
+        assertThat(async).hasSize(REQUESTS);
+    }
+
+    private long[] run(DnsResolverConfiguration.Mode mode, AddressResolverGroup<InetSocketAddress> resolver) {
+        LoopResources loop = LoopResources.create("dns-benchmark-" + mode.name().toLowerCase(), 1, true);
+        try {
+            HttpClient httpClient = HttpClient.create(ConnectionProvider.newConnection())
+                    .runOn(loop, false)
+                    .resolver(resolver);
+            int port = httpServer.getAddress().getPort();
+
+            long start = System.nanoTime();
+            List<Long> latencies = Flux.range(0, REQUESTS)
+                    .flatMap(
+                            request -> {
+                                String url = "http://host-" + request % HOST_NAMES + ".benchmark.test:" + port + "/";
+                                long requestStart = System.nanoTime();
+                                return httpClient
+                                        .get()
+                                        .uri(url)
+                                        .responseSingle((response, body) -> body.asString())
+                                        .map(body -> System.nanoTime() - requestStart);
+                            },
+                            CONCURRENCY)
+                    .collectList()
+                    .block(Duration.ofMinutes(2));
+            long elapsed = System.nanoTime() - start;
+
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            log.info(
+                    "{} resolver: {} connections in {}ms, p50 {}ms, p99 {}ms, max {}ms",
+                    mode,
+                    sorted.length,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length / 2]),
+                    TimeUnit.NANOSECONDS.toMillis(sorted[(int) (sorted.length * 0.99)]),
+                    TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length - 1]));
+            return sorted;
+        } finally {
+            resolver.close();
+            loop.disposeLater().block(Duration.ofSeconds(5));
+        }
+    }
+
+    /**
+     * Answers A queries for any name with 127.0.0.1 after {@link #DNS_DELAY}, and every other query with no answer.
+     */
+    private static final class DnsStandIn extends SimpleChannelInboundHandler<DatagramDnsQuery> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext context, DatagramDnsQuery query) {
+            DnsQuestion question = query.recordAt(DnsSection.QUESTION);
+            DatagramDnsResponse response = new DatagramDnsResponse(query.recipient(), query.sender(), query.id());
+            response.setRecursionAvailable(true);
+            response.addRecord(DnsSection.QUESTION, question);
+            if (DnsRecordType.A.equals(question.type())) {
+                response.addRecord(
+                        DnsSection.ANSWER,
+                        new DefaultDnsRawRecord(
+                                question.name(),
+                                DnsRecordType.A,
+                                60,
+                                Unpooled.wrappedBuffer(new byte[] {127, 0, 0, 1})));
+            }
+            context.executor()
+                    .schedule(() -> context.writeAndFlush(response), DNS_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Looks names up with a synchronous DNS query on the event loop and caches the answers, as the JDK resolver does.
+     */
+    private static final class BlockingResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+
+        private final InetSocketAddress dnsAddress;
+        private final Map<String, InetAddress> cache = new ConcurrentHashMap<>();
+
+        private BlockingResolverGroup(InetSocketAddress dnsAddress) {
+            this.dnsAddress = dnsAddress;
+        }
+
+        @Override
+        protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+            return new InetSocketAddressResolver(executor, new InetNameResolver(executor) {
+                @Override
+                protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+                    try {
+                        promise.setSuccess(cache.computeIfAbsent(inetHost, this::lookUp));
+                    } catch (RuntimeException e) {
+                        promise.setFailure(e);
+                    }
+                }
+
+                @Override
+                protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+                    try {
+                        promise.setSuccess(List.of(cache.computeIfAbsent(inetHost, this::lookUp)));
+                    } catch (RuntimeException e) {
+                        promise.setFailure(e);
+                    }
+                }
+
+                private InetAddress lookUp(String inetHost) {
+                    Hashtable<String, String> environment = new Hashtable<>();
+                    environment.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.dns.DnsContextFactory");
+                    environment.put(
+                            Context.PROVIDER_URL,
+                            "dns://" + dnsAddress.getHostString() + ":" + dnsAddress.getPort());
+                    try {
+                        Attribute answer = new InitialDirContext(environment)
+                                .getAttributes(inetHost, new String[] {"A"})
+                                .get("A");
+                        // A literal address is parsed, not looked up
+                        byte[] address = InetAddress.getByName(answer.get().toString()).getAddress();
+                        return InetAddress.getByAddress(inetHost, address);
+                    } catch (NamingException | UnknownHostException e) {
+                        throw new IllegalStateException("Unable to resolve " + inetHost, e);
+                    }
+                }
+            });
+        }
+    }
+}
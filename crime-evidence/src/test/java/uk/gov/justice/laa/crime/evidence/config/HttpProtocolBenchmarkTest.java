@@ -0,0 +1,113 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * Compares the {@link HttpProtocolConfiguration.Protocol}s at high concurrency against a local stub that speaks both
+ * HTTP/1.1 and cleartext HTTP/2 and answers after a fixed delay, as the MAAT API would.
+ * <p>
+ * Each client is built by {@link WebClientsConfiguration#httpClient}, so it has the production pool and settings.
+ * The connections each protocol needed are counted on the server, by client address. Run with
+ * {@code ./gradlew benchmark}; results are logged rather than asserted, as they depend on the machine.
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HttpProtocolBenchmarkTest {
+
+    private static final Duration RESPONSE_DELAY = Duration.ofMillis(10);
+    private static final int REQUESTS = 5_000;
+    private static final int CONCURRENCY = 200;
+
+    private final Set<SocketAddress> clients = ConcurrentHashMap.newKeySet();
+    private DisposableServer server;
+
+    @BeforeAll
+    void startServer() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                .handle((request, response) -> {
+                    clients.add(request.remoteAddress());
+                    return Mono.delay(RESPONSE_DELAY)
+                            .then(response.sendString(Mono.just("{}")).then());
+                })
+                .bindNow();
+    }
+
+    @AfterAll
+    void stopServer() {
+        server.disposeNow();
+    }
+
+    @Test
+    void givenEachProtocol_whenCalledConcurrently_thenTheirConnectionsAndLatenciesAreReported() {
+        long[] http11 = run(HttpProtocolConfiguration.Protocol.HTTP11);
+        long[] h2c = run(HttpProtocolConfiguration.Protocol.H2C);
+
+        assertThat(http11).hasSize(REQUESTS);
+        assertThat(h2c).hasSize(REQUESTS);
+    }
+
+    private long[] run(HttpProtocolConfiguration.Protocol protocol) {
+        HttpProtocolConfiguration configuration = new HttpProtocolConfiguration();
+        configuration.setProtocol(protocol);
+        String baseUrl = "http://127.0.0.1:" + server.port();
+        ServicesConfiguration servicesConfiguration = new ServicesConfiguration();
+        servicesConfiguration.setMaatApi(new ServicesConfiguration.MaatApi(baseUrl, "maat-api"));
+        HttpClient httpClient = new WebClientsConfiguration()
+                .httpClient(servicesConfiguration, new DnsResolverConfiguration(), configuration);
+        String url = baseUrl + "/rep-orders/1";
+        clients.clear();
+
+        long start = System.nanoTime();
+        List<Long> latencies = Flux.range(0, REQUESTS)
+                .flatMap(
+                        request -> {
+                            long requestStart = System.nanoTime();
+                            return httpClient
+                                    .get()
+                                    .uri(url)
+                                    .responseSingle((response, body) -> body.asString())
+                                    .map(body -> System.nanoTime() - requestStart);
+                        },
+                        CONCURRENCY)
+                .collectList()
+                .block(Duration.ofMinutes(2));
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        log.info(
+                "{}: {} requests over {} connections in {}ms, p50 {}ms, p99 {}ms, max {}ms",
+                protocol,
+                sorted.length,
+                clients.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length / 2]),
+                TimeUnit.NANOSECONDS.toMillis(sorted[(int) (sorted.length * 0.99)]),
+                TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length - 1]));
+        return sorted;
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.justice.laa.crime.evidence.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class WebClientsConfigurationTest {
+
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private static HttpProtocolConfiguration h2() {
+        HttpProtocolConfiguration configuration = new HttpProtocolConfiguration();
+        configuration.setProtocol(HttpProtocolConfiguration.Protocol.H2);
+        return configuration;
+    }
+
+    private HttpClient buildHttpClient(String baseUrl) {
+        ServicesConfiguration servicesConfiguration = new ServicesConfiguration();
+        servicesConfiguration.setMaatApi(new ServicesConfiguration.MaatApi(baseUrl, "maat-api"));
+        return new WebClientsConfiguration().httpClient(servicesConfiguration, new DnsResolverConfiguration(), h2());
+    }
+
+    private void startServer(HttpProtocol... protocols) {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(protocols)
+                .handle((request, response) -> response.sendString(Mono.just("{}")))
+                .bindNow();
+    }
+
+    private static int status(HttpClient httpClient, String url) {
+        return httpClient
+                .get()
+                .uri(url)
+                .responseSingle((response, body) ->
+                        body.asString().defaultIfEmpty("").thenReturn(response.status().code()))
+                .block(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void givenH2AndAnHttpsBaseUrl_whenTheHttpClientIsBuilt_thenHttp2IsNegotiatedOverTls() {
+        HttpClient httpClient = buildHttpClient("https://example.com/api/internal/v1/assessment");
+
+        assertThat(httpClient.configuration().isSecure()).isTrue();
+        assertThat(httpClient.configuration().protocols()).containsExactly(HttpProtocol.H2, HttpProtocol.HTTP11);
+    }
+
+    @Test
+    void givenH2AndAPlainHttpBaseUrl_whenAnHttp11ServerIsCalled_thenItFallsBackToCleartextHttp11() {
+        startServer(HttpProtocol.HTTP11);
+        String baseUrl = "http://127.0.0.1:" + server.port() + "/api/internal/v1/assessment";
+        HttpClient httpClient = buildHttpClient(baseUrl);
+
+        assertThat(httpClient.configuration().isSecure()).isFalse();
+        assertThat(status(httpClient, baseUrl + "/rep-orders/1")).isEqualTo(200);
+    }
+
+    @Test
+    void givenH2AndAPlainHttpBaseUrl_whenAnH2cServerIsCalled_thenTheCallSucceedsOverCleartext() {
+        startServer(HttpProtocol.HTTP11, HttpProtocol.H2C);
+        String baseUrl = "http://127.0.0.1:" + server.port() + "/api/internal/v1/assessment";
+        HttpClient httpClient = buildHttpClient(baseUrl);
+
+        assertThat(httpClient.configuration().protocols()).containsExactly(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        assertThat(status(httpClient, baseUrl + "/rep-orders/1")).isEqualTo(200);
+    }
+}
@@ -4,11 +4,13 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import uk.gov.justice.laa.crime.evidence.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.evidence.dto.CrimeEvidenceDTO;
 import uk.gov.justice.laa.crime.evidence.service.EvidenceService;
+import uk.gov.justice.laa.crime.evidence.service.StaleWhileRevalidate;
 import uk.gov.justice.laa.crime.evidence.tracing.TraceIdHandler;
 import uk.gov.justice.laa.crime.util.RequestBuilderUtils;
 
@@ -68,15 +70,32 @@ class CrimeEvidenceControllerTest {
         var calculateEvidenceFeeRequestJson = objectMapper.writeValueAsString(apiCalculateEvidenceFeeRequest);
         var calculateEvidenceFeeResponse = TestModelDataBuilder.getApiCalculateEvidenceFeeResponse();
 
-        when(evidenceService.calculateEvidenceFee(any(CrimeEvidenceDTO.class)))
-                .thenReturn(calculateEvidenceFeeResponse);
+        when(evidenceService.lookUpEvidenceFee(any(CrimeEvidenceDTO.class)))
+                .thenReturn(new StaleWhileRevalidate.Lookup<>(calculateEvidenceFeeResponse, false));
 
         MvcResult result = mvc.perform(RequestBuilderUtils.buildRequestGivenContent(
                         HttpMethod.POST, calculateEvidenceFeeRequestJson, ENDPOINT_URL))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(StaleWhileRevalidate.STALE_HEADER))
                 .andReturn();
         String expected = objectMapper.writeValueAsString(calculateEvidenceFeeResponse);
         assertThat(result.getResponse().getContentAsString()).isEqualTo(expected);
     }
+
+    @Test
+    void givenAStaleCapitalAssetCount_whenCalculateEvidenceFeeIsInvoked_thenTheResponseIsMarkedStale()
+            throws Exception {
+        var calculateEvidenceFeeRequestJson =
+                objectMapper.writeValueAsString(TestModelDataBuilder.getApiCalculateEvidenceFeeRequest(true));
+
+        when(evidenceService.lookUpEvidenceFee(any(CrimeEvidenceDTO.class)))
+                .thenReturn(new StaleWhileRevalidate.Lookup<>(
+                        TestModelDataBuilder.getApiCalculateEvidenceFeeResponse(), true));
+
+        mvc.perform(RequestBuilderUtils.buildRequestGivenContent(
+                        HttpMethod.POST, calculateEvidenceFeeRequestJson, ENDPOINT_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(StaleWhileRevalidate.STALE_HEADER, "true"));
+    }
 }
@@ -0,0 +1,48 @@
+package uk.gov.justice.laa.crime.evidence.controller;
+
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import uk.gov.justice.laa.crime.evidence.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.evidence.service.MaatDataService;
+import uk.gov.justice.laa.crime.evidence.tracing.TraceIdHandler;
+import uk.gov.justice.laa.crime.util.RequestBuilderUtils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = MaatDataCacheController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class MaatDataCacheControllerTest {
+
+    private static final String ENDPOINT_URL = "/api/internal/v1/evidence/cache/capital-asset-count";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private TraceIdHandler traceIdHandler;
+
+    @MockitoBean
+    private MaatDataService maatDataService;
+
+    @Test
+    void givenValidRepId_whenEvictCapitalAssetCountIsInvoked_thenTheCachedCountIsEvicted() throws Exception {
+        mvc.perform(RequestBuilderUtils.buildRequest(
+                        HttpMethod.DELETE, ENDPOINT_URL + "/" + TestModelDataBuilder.TEST_REP_ID))
+                .andExpect(status().isNoContent());
+
+        verify(maatDataService).evictCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+    }
+
+    @Test
+    void givenInvalidRepId_whenEvictCapitalAssetCountIsInvoked_thenErrorResponseIsReturned() throws Exception {
+        mvc.perform(RequestBuilderUtils.buildRequest(HttpMethod.DELETE, ENDPOINT_URL + "/1NV4L1D"))
+                .andExpect(status().isBadRequest());
+    }
+}
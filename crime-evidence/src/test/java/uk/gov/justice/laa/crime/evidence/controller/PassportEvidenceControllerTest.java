@@ -2,11 +2,13 @@ package uk.gov.justice.laa.crime.evidence.controller;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import uk.gov.justice.laa.crime.evidence.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.evidence.service.PassportEvidenceService;
+import uk.gov.justice.laa.crime.evidence.service.StaleWhileRevalidate;
 import uk.gov.justice.laa.crime.evidence.tracing.TraceIdHandler;
 import uk.gov.justice.laa.crime.util.RequestBuilderUtils;
 
@@ -36,16 +38,30 @@ class PassportEvidenceControllerTest {
 
     @Test
     void givenValidId_whenFindIsInvoked_thenPassportEvidenceResponseIsReturned() throws Exception {
-        when(passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
-                .thenReturn(TestModelDataBuilder.getApiPassportEvidenceResponse());
+        when(passportEvidenceService.lookUpPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
+                .thenReturn(new StaleWhileRevalidate.Lookup<>(
+                        TestModelDataBuilder.getApiPassportEvidenceResponse(), false));
 
         mvc.perform(RequestBuilderUtils.buildRequest(
                         HttpMethod.GET, ENDPOINT_URL + "/" + TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(StaleWhileRevalidate.STALE_HEADER))
                 .andExpect(jsonPath("$.applicantEvidenceItems[0].description").value("mock evidence item"));
     }
 
+    @Test
+    void givenAStaleLookup_whenFindIsInvoked_thenTheResponseIsMarkedStale() throws Exception {
+        when(passportEvidenceService.lookUpPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
+                .thenReturn(new StaleWhileRevalidate.Lookup<>(
+                        TestModelDataBuilder.getApiPassportEvidenceResponse(), true));
+
+        mvc.perform(RequestBuilderUtils.buildRequest(
+                        HttpMethod.GET, ENDPOINT_URL + "/" + TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(StaleWhileRevalidate.STALE_HEADER, "true"));
+    }
+
     @Test
     void givenInvalidId_whenFindIsInvoked_thenErrorResponseIsReturned() throws Exception {
         mvc.perform(RequestBuilderUtils.buildRequest(HttpMethod.GET, ENDPOINT_URL + "/1NV4L1D"))
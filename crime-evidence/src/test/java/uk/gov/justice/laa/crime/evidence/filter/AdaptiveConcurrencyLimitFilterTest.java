@@ -0,0 +1,121 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.evidence.config.ConcurrencyLimitConfiguration;
+import uk.gov.justice.laa.crime.evidence.exception.ConcurrencyLimitExceededException;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveConcurrencyLimitFilterTest {
+
+    private static final URI DEFAULT_URL = URI.create("https://example.com/rep-orders/1/capital-assets/count");
+    private static final ClientRequest REQUEST =
+            ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+
+    @Mock
+    private ExchangeFunction exchangeFunction;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdaptiveConcurrencyLimitFilter buildFilter(int initialLimit, int minimumLimit, int maximumLimit) {
+        ConcurrencyLimitConfiguration configuration = new ConcurrencyLimitConfiguration();
+        configuration.setInitialLimit(initialLimit);
+        configuration.setMinimumLimit(minimumLimit);
+        configuration.setMaximumLimit(maximumLimit);
+        configuration.setLatencyThreshold(Duration.ofSeconds(2));
+        configuration.setBackoffRatio(0.5);
+        return new AdaptiveConcurrencyLimitFilter(configuration, meterRegistry, "test");
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("client", "test").gauge().value();
+    }
+
+    private static Mono<ClientResponse> respondWith(HttpStatus status) {
+        return Mono.just(ClientResponse.create(status).build());
+    }
+
+    @Test
+    void givenTheLimitIsReached_whenAnotherRequestIsMade_thenItIsRejectedAtOnce() {
+        AdaptiveConcurrencyLimitFilter filter = buildFilter(1, 1, 1);
+        when(exchangeFunction.exchange(REQUEST)).thenReturn(Mono.never());
+        Disposable inFlight = filter.filter(REQUEST, exchangeFunction).subscribe();
+
+        Mono<ClientResponse> response = filter.filter(REQUEST, exchangeFunction);
+
+        assertThatThrownBy(response::block).isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(meterRegistry.get("maat.api.concurrency.rejected").counter().count())
+                .isEqualTo(1);
+        assertThat(gauge("maat.api.concurrency.in.flight")).isEqualTo(1);
+        inFlight.dispose();
+    }
+
+    @Test
+    void givenAnOverloadedResponse_whenItIsReceived_thenTheLimitShrinks() {
+        AdaptiveConcurrencyLimitFilter filter = buildFilter(20, 5, 100);
+        when(exchangeFunction.exchange(REQUEST)).thenReturn(respondWith(HttpStatus.SERVICE_UNAVAILABLE));
+
+        filter.filter(REQUEST, exchangeFunction).block();
+
+        assertThat(filter.limit()).isEqualTo(10);
+        assertThat(gauge("maat.api.concurrency.limit")).isEqualTo(10);
+    }
+
+    @Test
+    void givenRepeatedFailures_whenTheyAreReceived_thenTheLimitStopsAtTheMinimum() {
+        AdaptiveConcurrencyLimitFilter filter = buildFilter(20, 5, 100);
+        when(exchangeFunction.exchange(REQUEST))
+                .thenReturn(Mono.error(new WebClientRequestException(
+                        new IllegalStateException("connection refused"), HttpMethod.GET, DEFAULT_URL, null)));
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> filter.filter(REQUEST, exchangeFunction).block())
+                    .isInstanceOf(WebClientRequestException.class);
+        }
+
+        assertThat(filter.limit()).isEqualTo(5);
+        assertThat(gauge("maat.api.concurrency.in.flight")).isZero();
+    }
+
+    @Test
+    void givenAFastResponseWithTheLimitInUse_whenItIsReceived_thenTheLimitGrows() {
+        AdaptiveConcurrencyLimitFilter filter = buildFilter(2, 1, 3);
+        when(exchangeFunction.exchange(REQUEST)).thenReturn(respondWith(HttpStatus.OK));
+
+        filter.filter(REQUEST, exchangeFunction).block();
+        filter.filter(REQUEST, exchangeFunction).block();
+
+        assertThat(filter.limit()).isEqualTo(3);
+    }
+
+    @Test
+    void givenACancelledRequest_whenItIsCancelled_thenItsSlotIsFreedWithoutChangingTheLimit() {
+        AdaptiveConcurrencyLimitFilter filter = buildFilter(1, 1, 10);
+        when(exchangeFunction.exchange(REQUEST)).thenReturn(Mono.never());
+
+        filter.filter(REQUEST, exchangeFunction).subscribe().dispose();
+
+        assertThat(gauge("maat.api.concurrency.in.flight")).isZero();
+        assertThat(filter.limit()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,108 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.evidence.exception.DeadlineExceededException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+@ExtendWith(MockitoExtension.class)
+class DeadlineFilterTest {
+
+    private static final URI DEFAULT_URL = URI.create("https://example.com/rep-orders/1/capital-assets/count");
+    private static final ClientRequest REQUEST =
+            ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+
+    @Mock
+    private ExchangeFunction exchangeFunction;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockHttpServletRequest inboundRequest = new MockHttpServletRequest();
+    private DeadlineFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(inboundRequest));
+        filter = new DeadlineFilter(meterRegistry, "test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private double exceeded() {
+        return meterRegistry.get("maat.api.deadline.exceeded").counter().count();
+    }
+
+    @Test
+    void givenNoDeadline_whenACallIsMade_thenItIsNotBounded() {
+        when(exchangeFunction.exchange(REQUEST))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK).build()));
+
+        ClientResponse response = filter.filter(REQUEST, exchangeFunction).block();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void givenADeadlineThatHasPassed_whenACallIsMade_thenItIsNotSent() {
+        RequestDeadline.set(inboundRequest, Instant.now().minusMillis(1));
+
+        Mono<ClientResponse> response = filter.filter(REQUEST, exchangeFunction);
+
+        assertThatThrownBy(response::block).isInstanceOf(DeadlineExceededException.class);
+        verify(exchangeFunction, never()).exchange(any());
+        assertThat(exceeded()).isEqualTo(1);
+    }
+
+    @Test
+    void givenACallStillRunningAtTheDeadline_whenTheDeadlinePasses_thenItIsAbandoned() {
+        RequestDeadline.set(inboundRequest, Instant.now().plusMillis(100));
+        Mono<ClientResponse> slowResponse = Mono.delay(Duration.ofSeconds(5))
+                .map(tick -> ClientResponse.create(HttpStatus.OK).build());
+        when(exchangeFunction.exchange(REQUEST)).thenReturn(slowResponse);
+
+        Mono<ClientResponse> response = filter.filter(REQUEST, exchangeFunction);
+
+        assertThatThrownBy(() -> response.block(Duration.ofSeconds(2))).isInstanceOf(DeadlineExceededException.class);
+        assertThat(exceeded()).isEqualTo(1);
+    }
+
+    @Test
+    void givenACallAnsweredBeforeTheDeadline_whenACallIsMade_thenTheResponseIsReturned() {
+        RequestDeadline.set(inboundRequest, Instant.now().plusSeconds(5));
+        when(exchangeFunction.exchange(REQUEST))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK).build()));
+
+        ClientResponse response = filter.filter(REQUEST, exchangeFunction).block();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exceeded()).isZero();
+    }
+}
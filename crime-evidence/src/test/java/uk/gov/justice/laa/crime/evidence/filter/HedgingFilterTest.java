@@ -0,0 +1,264 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.evidence.client.MaatDataApiClient;
+import uk.gov.justice.laa.crime.evidence.config.HedgingConfiguration;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+@ExtendWith(MockitoExtension.class)
+class HedgingFilterTest {
+
+    private static final String CAPITAL_ASSET_COUNT_TEMPLATE = "/rep-orders/{repId}/capital-assets/count";
+    private static final String BASE_URL = "https://example.com/api/internal/v1/assessment";
+    private static final URI DEFAULT_URL = URI.create(BASE_URL + "/rep-orders/1/capital-assets/count");
+
+    @Mock
+    private ExchangeFunction exchangeFunction;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static HedgingConfiguration buildConfiguration(double budgetPercent) {
+        HedgingConfiguration configuration = new HedgingConfiguration();
+        configuration.setEnabled(true);
+        configuration.setDelay(Duration.ofMillis(10));
+        configuration.setBudgetPercent(budgetPercent);
+        return configuration;
+    }
+
+    private static ClientRequest buildRequest(HttpMethod method, String uriTemplate) {
+        return ClientRequest.create(method, DEFAULT_URL)
+                .attribute(WebClient.class.getName() + ".uriTemplate", uriTemplate)
+                .build();
+    }
+
+    private static Mono<ClientResponse> ok() {
+        return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+    }
+
+    private static Mono<ClientResponse> count(int count) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(String.valueOf(count))
+                .build());
+    }
+
+    private double hedges(String outcome) {
+        return meterRegistry
+                .get("maat.api.hedges")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    @Test
+    void givenASlowFirstAttempt_whenFilterIsInvoked_thenTheHedgeAnswers() {
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.never(), ok());
+        HedgingFilter filter = new HedgingFilter(buildConfiguration(100), meterRegistry, BASE_URL);
+
+        ClientResponse response = filter.filter(
+                        buildRequest(HttpMethod.GET, CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(hedges("won")).isEqualTo(1);
+    }
+
+    @Test
+    void givenATemplateRecordedWithTheBaseUrl_whenTheFirstAttemptIsSlow_thenTheHedgeAnswers() {
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.never(), ok());
+        HedgingFilter filter = new HedgingFilter(buildConfiguration(100), meterRegistry, BASE_URL);
+
+        ClientResponse response = filter.filter(
+                        buildRequest(HttpMethod.GET, BASE_URL + CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(hedges("sent")).isEqualTo(1);
+    }
+
+    @Test
+    void givenAnHttpServiceClient_whenTheFirstAttemptIsSlow_thenTheHedgeAnswers() {
+        when(exchangeFunction.exchange(any())).thenReturn(count(1).delayElement(Duration.ofSeconds(2)), count(3));
+        WebClient webClient = WebClient.builder()
+                .baseUrl(BASE_URL)
+                .exchangeFunction(exchangeFunction)
+                .filter(new HedgingFilter(buildConfiguration(100), meterRegistry, BASE_URL))
+                .build();
+        MaatDataApiClient client = HttpServiceProxyFactory.builderFor(WebClientAdapter.create(webClient))
+                .build()
+                .createClient(MaatDataApiClient.class);
+
+        assertThat(client.getCapitalAssetCount(1)).isEqualTo(3);
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(hedges("won")).isEqualTo(1);
+    }
+
+    @Test
+    void givenAResponseThatArrivesSecond_whenItIsClaimed_thenItsBodyIsReleased() {
+        ClientResponse winner = mock(ClientResponse.class);
+        ClientResponse loser = mock(ClientResponse.class);
+        when(loser.releaseBody()).thenReturn(Mono.empty());
+        AtomicBoolean answered = new AtomicBoolean();
+
+        assertThat(HedgingFilter.claim(answered, winner).block()).isSameAs(winner);
+        assertThat(HedgingFilter.claim(answered, loser).block()).isNull();
+
+        verify(loser).releaseBody();
+        verify(winner, never()).releaseBody();
+    }
+
+    @Test
+    void givenAHedgeThatFailsFast_whenTheFirstAttemptAnswers_thenTheFirstAttemptIsUsed() {
+        when(exchangeFunction.exchange(any()))
+                .thenReturn(
+                        ok().delayElement(Duration.ofMillis(100)),
+                        Mono.error(new IllegalStateException("Connection refused")));
+        HedgingFilter filter = new HedgingFilter(buildConfiguration(100), meterRegistry, BASE_URL);
+
+        ClientResponse response = filter.filter(
+                        buildRequest(HttpMethod.GET, CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(hedges("won")).isZero();
+    }
+
+    @Test
+    void givenBothAttemptsFail_whenFilterIsInvoked_thenTheFirstAttemptsErrorIsReturned() {
+        IllegalStateException firstError = new IllegalStateException("first attempt failed");
+        when(exchangeFunction.exchange(any()))
+                .thenReturn(
+                        Mono.<ClientResponse>error(firstError).delaySubscription(Duration.ofMillis(100)),
+                        Mono.error(new IllegalStateException("hedge failed")));
+        HedgingFilter filter = new HedgingFilter(buildConfiguration(100), meterRegistry, BASE_URL);
+
+        Mono<ClientResponse> response =
+                filter.filter(buildRequest(HttpMethod.GET, CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction);
+
+        assertThatThrownBy(() -> response.block(Duration.ofSeconds(5))).isSameAs(firstError);
+        assertThat(hedges("sent")).isEqualTo(1);
+    }
+
+    @Test
+    void givenAFirstAttemptThatFailsBeforeTheHedgeDelay_whenFilterIsInvoked_thenNoHedgeIsSent() {
+        IllegalStateException firstError = new IllegalStateException("first attempt failed");
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.error(firstError));
+        HedgingFilter filter = new HedgingFilter(buildConfiguration(100), meterRegistry, BASE_URL);
+
+        Mono<ClientResponse> response =
+                filter.filter(buildRequest(HttpMethod.GET, CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction);
+
+        assertThatThrownBy(() -> response.block(Duration.ofSeconds(5))).isSameAs(firstError);
+        verify(exchangeFunction).exchange(any());
+        assertThat(hedges("sent")).isZero();
+    }
+
+    @Test
+    void givenAFastFirstAttempt_whenFilterIsInvoked_thenNoHedgeIsSent() {
+        when(exchangeFunction.exchange(any())).thenReturn(ok());
+        HedgingFilter filter = new HedgingFilter(buildConfiguration(100), meterRegistry, BASE_URL);
+
+        filter.filter(buildRequest(HttpMethod.GET, CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction)
+                .block(Duration.ofSeconds(5));
+
+        verify(exchangeFunction).exchange(any());
+        assertThat(hedges("sent")).isZero();
+    }
+
+    @Test
+    void givenNoHedgeBudget_whenTheFirstAttemptIsSlow_thenNoHedgeIsSent() {
+        when(exchangeFunction.exchange(any())).thenReturn(ok().delayElement(Duration.ofMillis(100)));
+        HedgingFilter filter = new HedgingFilter(buildConfiguration(0), meterRegistry, BASE_URL);
+
+        ClientResponse response = filter.filter(
+                        buildRequest(HttpMethod.GET, CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+        verify(exchangeFunction).exchange(any());
+        assertThat(hedges("budget_exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void givenARequestThatIsNotHedgeable_whenFilterIsInvoked_thenItIsPassedThrough() {
+        when(exchangeFunction.exchange(any())).thenReturn(ok().delayElement(Duration.ofMillis(100)));
+        HedgingFilter filter = new HedgingFilter(buildConfiguration(100), meterRegistry, BASE_URL);
+
+        filter.filter(buildRequest(HttpMethod.POST, CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction)
+                .block(Duration.ofSeconds(5));
+        filter.filter(buildRequest(HttpMethod.GET, "/passport-assessments/{id}/evidence"), exchangeFunction)
+                .block(Duration.ofSeconds(5));
+
+        verify(exchangeFunction, times(2)).exchange(any());
+        assertThat(hedges("sent")).isZero();
+    }
+
+    @Test
+    void givenObservedLatencies_whenAPercentileIsConfigured_thenTheHedgeDelayFollowsThem() {
+        when(exchangeFunction.exchange(any())).thenReturn(ok());
+        HedgingConfiguration configuration = buildConfiguration(100);
+        configuration.setDelay(Duration.ofSeconds(1));
+        configuration.setPercentile(0.95);
+        configuration.setMinimumDelay(Duration.ofMillis(20));
+        HedgingFilter filter = new HedgingFilter(configuration, meterRegistry, BASE_URL);
+        assertThat(filter.hedgeDelay()).isEqualTo(Duration.ofSeconds(1));
+
+        for (int i = 0; i < 32; i++) {
+            filter.filter(buildRequest(HttpMethod.GET, CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction)
+                    .block(Duration.ofSeconds(5));
+        }
+
+        assertThat(filter.hedgeDelay()).isEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    void givenFirstAttemptsCancelledByTheHedge_whenAPercentileIsConfigured_thenTheirLatenciesAreStillSampled() {
+        AtomicInteger calls = new AtomicInteger();
+        when(exchangeFunction.exchange(any()))
+                .thenAnswer(invocation -> calls.getAndIncrement() % 2 == 0 ? Mono.never() : ok());
+        HedgingConfiguration configuration = buildConfiguration(100);
+        configuration.setPercentile(0.5);
+        configuration.setMinimumDelay(Duration.ofMillis(1));
+        HedgingFilter filter = new HedgingFilter(configuration, meterRegistry, BASE_URL);
+
+        for (int i = 0; i < 32; i++) {
+            filter.filter(buildRequest(HttpMethod.GET, CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction)
+                    .block(Duration.ofSeconds(5));
+        }
+
+        // Each first attempt ran at least until the hedge delay, when the hedge answered and cancelled it
+        assertThat(filter.hedgeDelay()).isGreaterThanOrEqualTo(configuration.getDelay());
+    }
+}
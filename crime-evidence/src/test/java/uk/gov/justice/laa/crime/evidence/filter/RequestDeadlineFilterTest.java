@@ -0,0 +1,88 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.evidence.config.RequestDeadlineConfiguration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestDeadlineFilterTest {
+
+    private static final String PASSPORT_EVIDENCE_URL = "/api/internal/v1/evidence/passport/1000";
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(buildConfiguration());
+
+    private static RequestDeadlineConfiguration buildConfiguration() {
+        RequestDeadlineConfiguration configuration = new RequestDeadlineConfiguration();
+        configuration.setDefaultTimeout(Duration.ofSeconds(15));
+        configuration.setEndpoints(Map.of("/api/internal/v1/evidence/passport/**", Duration.ofSeconds(5)));
+        return configuration;
+    }
+
+    private static MockHttpServletRequest buildRequest(String url) {
+        return new MockHttpServletRequest("GET", url);
+    }
+
+    @Test
+    void givenAnEndpointWithoutItsOwnBudget_whenTheTimeoutIsWorkedOut_thenTheDefaultIsUsed() {
+        assertThat(filter.timeout(buildRequest("/api/internal/v1/evidence"))).isEqualTo(Duration.ofSeconds(15));
+    }
+
+    @Test
+    void givenAnEndpointWithItsOwnBudget_whenTheTimeoutIsWorkedOut_thenTheEndpointBudgetIsUsed() {
+        assertThat(filter.timeout(buildRequest(PASSPORT_EVIDENCE_URL))).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void givenACallerWithLessTimeLeft_whenTheTimeoutIsWorkedOut_thenTheCallerBudgetIsUsed() {
+        MockHttpServletRequest request = buildRequest(PASSPORT_EVIDENCE_URL);
+        request.addHeader("X-Request-Timeout", "1200");
+
+        assertThat(filter.timeout(request)).isEqualTo(Duration.ofMillis(1200));
+    }
+
+    @Test
+    void givenACallerAskingForMoreTime_whenTheTimeoutIsWorkedOut_thenTheEndpointBudgetIsKept() {
+        MockHttpServletRequest request = buildRequest(PASSPORT_EVIDENCE_URL);
+        request.addHeader("X-Request-Timeout", "60000");
+
+        assertThat(filter.timeout(request)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void givenAnUnparseableCallerBudget_whenTheTimeoutIsWorkedOut_thenItIsIgnored() {
+        MockHttpServletRequest request = buildRequest(PASSPORT_EVIDENCE_URL);
+        request.addHeader("X-Request-Timeout", "soon");
+
+        assertThat(filter.timeout(request)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void givenANonPositiveCallerBudget_whenTheTimeoutIsWorkedOut_thenItIsIgnored() {
+        MockHttpServletRequest zero = buildRequest(PASSPORT_EVIDENCE_URL);
+        zero.addHeader("X-Request-Timeout", "0");
+        MockHttpServletRequest negative = buildRequest(PASSPORT_EVIDENCE_URL);
+        negative.addHeader("X-Request-Timeout", "-500");
+
+        assertThat(filter.timeout(zero)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(filter.timeout(negative)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void givenAnInboundRequest_whenItIsFiltered_thenItsDeadlineIsStored() throws Exception {
+        MockHttpServletRequest request = buildRequest(PASSPORT_EVIDENCE_URL);
+        Instant before = Instant.now();
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat((Instant) request.getAttribute(RequestDeadline.ATTRIBUTE))
+                .isBetween(before.plusSeconds(5), Instant.now().plusSeconds(5));
+    }
+}
@@ -0,0 +1,160 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@ExtendWith(MockitoExtension.class)
+class Resilience4jCircuitBreakerFilterTest {
+
+    private static final String CLIENT_NAME = "maatDataWebClient";
+    private static final String CAPITAL_ASSET_COUNT_TEMPLATE = "/rep-orders/{repId}/capital-assets/count";
+    private static final String CAPITAL_ASSET_COUNT_INSTANCE = CLIENT_NAME + "-rep-orders-capital-assets-count";
+    private static final String BASE_URL = "https://example.com/api/internal/v1/assessment";
+    private static final URI DEFAULT_URL = URI.create(BASE_URL + "/rep-orders/1/capital-assets/count");
+
+    @Mock
+    private ExchangeFunction exchangeFunction;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+    private Resilience4jCircuitBreakerFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        filter = new Resilience4jCircuitBreakerFilter(circuitBreakerRegistry, bulkheadRegistry, CLIENT_NAME, BASE_URL);
+    }
+
+    private static ClientRequest buildRequest(String uriTemplate) {
+        return ClientRequest.create(HttpMethod.GET, DEFAULT_URL)
+                .attribute(WebClient.class.getName() + ".uriTemplate", uriTemplate)
+                .build();
+    }
+
+    @Test
+    void givenUriTemplates_whenOperationNameIsInvoked_thenVariablesAreDropped() {
+        assertThat(Resilience4jCircuitBreakerFilter.operationName(CAPITAL_ASSET_COUNT_TEMPLATE))
+                .isEqualTo("rep-orders-capital-assets-count");
+        assertThat(Resilience4jCircuitBreakerFilter.operationName(
+                        "/passport-assessments/{passportAssessmentId}/evidence"))
+                .isEqualTo("passport-assessments-evidence");
+        assertThat(Resilience4jCircuitBreakerFilter.operationName("https://example.com/rep-orders/{id}?expand=true"))
+                .isEqualTo("rep-orders");
+    }
+
+    @Test
+    void givenATemplateRecordedWithABaseUrlPath_whenInstanceNameIsInvoked_thenTheBaseUrlIsNotPartOfTheName() {
+        ClientRequest request = buildRequest(BASE_URL + CAPITAL_ASSET_COUNT_TEMPLATE);
+
+        assertThat(filter.instanceName(request)).isEqualTo(CAPITAL_ASSET_COUNT_INSTANCE);
+    }
+
+    @Test
+    void givenASuccessfulCall_whenFilterIsInvoked_thenItIsRecordedAgainstItsOperation() {
+        when(exchangeFunction.exchange(any()))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK).build()));
+
+        ClientResponse response =
+                filter.filter(buildRequest(CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction).block();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(circuitBreakerRegistry
+                        .circuitBreaker(CAPITAL_ASSET_COUNT_INSTANCE)
+                        .getMetrics()
+                        .getNumberOfSuccessfulCalls())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenARequestWithoutATemplate_whenFilterIsInvoked_thenTheClientInstanceIsUsed() {
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+
+        assertThat(filter.instanceName(request)).isEqualTo(CLIENT_NAME);
+    }
+
+    @Test
+    void givenAnOpenCircuit_whenFilterIsInvoked_thenTheCallFailsWithoutBeingSent() {
+        circuitBreakerRegistry.circuitBreaker(CAPITAL_ASSET_COUNT_INSTANCE).transitionToOpenState();
+
+        Mono<ClientResponse> response = filter.filter(buildRequest(CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction);
+
+        assertThatThrownBy(response::block).isInstanceOf(CallNotPermittedException.class);
+        verify(exchangeFunction, never()).exchange(any());
+    }
+
+    @Test
+    void givenAFullBulkhead_whenFilterIsInvoked_thenTheCallIsRejected() {
+        Sinks.One<ClientResponse> inFlight = Sinks.one();
+        when(exchangeFunction.exchange(any())).thenReturn(inFlight.asMono());
+        filter.filter(buildRequest(CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction)
+                .subscribe();
+
+        Mono<ClientResponse> response = filter.filter(buildRequest(CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction);
+
+        assertThatThrownBy(response::block).isInstanceOf(BulkheadFullException.class);
+        inFlight.tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+    }
+
+    @Test
+    void givenAFullBulkhead_whenACallIsRejected_thenTheCircuitBreakerDoesNotRecordIt() {
+        Sinks.One<ClientResponse> inFlight = Sinks.one();
+        when(exchangeFunction.exchange(any())).thenReturn(inFlight.asMono());
+        filter.filter(buildRequest(CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction)
+                .subscribe();
+
+        Mono<ClientResponse> response = filter.filter(buildRequest(CAPITAL_ASSET_COUNT_TEMPLATE), exchangeFunction);
+
+        assertThatThrownBy(response::block).isInstanceOf(BulkheadFullException.class);
+        CircuitBreaker.Metrics metrics =
+                circuitBreakerRegistry.circuitBreaker(CAPITAL_ASSET_COUNT_INSTANCE).getMetrics();
+        assertThat(metrics.getNumberOfBufferedCalls()).isZero();
+        assertThat(metrics.getNumberOfNotPermittedCalls()).isZero();
+        inFlight.tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+        assertThat(metrics.getNumberOfSuccessfulCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void givenAnOpenCircuitForOneOperation_whenAnotherOperationIsCalled_thenItIsSent() {
+        circuitBreakerRegistry.circuitBreaker(CAPITAL_ASSET_COUNT_INSTANCE).transitionToOpenState();
+        when(exchangeFunction.exchange(any()))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK).build()));
+
+        ClientResponse response = filter.filter(
+                        buildRequest("/passport-assessments/{passportAssessmentId}/evidence"), exchangeFunction)
+                .block();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
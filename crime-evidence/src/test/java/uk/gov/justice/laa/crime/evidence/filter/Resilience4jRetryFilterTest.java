@@ -5,10 +5,14 @@ import static org.mockito.Mockito.when;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.evidence.config.RetryAfterConfiguration;
+import uk.gov.justice.laa.crime.evidence.config.RetryBudgetConfiguration;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.LinkedList;
 
@@ -42,6 +46,7 @@ class Resilience4jRetryFilterTest {
     private static final int NUM_RETRIES = 3;
     private static RetryRegistry retryRegistry;
     public static final String DEFAULT_CONFIG_NAME = "default";
+    private static final String CLIENT_NAME = "maatDataWebClient";
     private static final URI DEFAULT_URL = URI.create("https://example.com");
 
     @BeforeEach
@@ -200,6 +205,108 @@ class Resilience4jRetryFilterTest {
         softly.assertAll();
     }
 
+    @Test
+    void givenASpentRetryBudget_whenRetryFilterIsInvoked_thenTheFailureIsReturnedWithoutRetrying() {
+        ClientRequest request =
+                ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+        LinkedList<RuntimeException> errors = new LinkedList<>(Arrays.asList(
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY),
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY),
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY)));
+
+        when(exchangeFunction.exchange(request)).thenReturn(getClientResponseMono(errors));
+        RetryBudget retryBudget = buildRetryBudget(1, 0);
+
+        Mono<ClientResponse> response = new Resilience4jRetryFilter(retryRegistry, CLIENT_NAME, retryBudget)
+                .filter(request, exchangeFunction);
+
+        softly.assertThatThrownBy(response::block).isInstanceOf(WebClientResponseException.BadGateway.class);
+        verifyCorrectNumberOfCalls(2, CLIENT_NAME);
+        softly.assertThat(retryBudget.utilisation()).isEqualTo(1);
+        softly.assertAll();
+    }
+
+    @Test
+    void givenRetriesExhaustedWithBudgetLeft_whenRetryFilterIsInvoked_thenTheUnusedTokenIsRefunded() {
+        ClientRequest request =
+                ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+        LinkedList<RuntimeException> errors = new LinkedList<>(Arrays.asList(
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY),
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY),
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY)));
+
+        when(exchangeFunction.exchange(request)).thenReturn(getClientResponseMono(errors));
+        RetryBudget retryBudget = buildRetryBudget(4, 0);
+
+        Mono<ClientResponse> response = new Resilience4jRetryFilter(retryRegistry, CLIENT_NAME, retryBudget)
+                .filter(request, exchangeFunction);
+
+        softly.assertThatThrownBy(response::block).isInstanceOf(WebClientResponseException.BadGateway.class);
+        verifyCorrectNumberOfCalls(NUM_RETRIES, CLIENT_NAME);
+        softly.assertThat(retryBudget.utilisation()).isEqualTo(0.5);
+        softly.assertAll();
+    }
+
+    @Test
+    void givenSuccessfulResponses_whenRetryFilterIsInvoked_thenTheRetryBudgetIsRefilled() {
+        ClientRequest request =
+                ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+        LinkedList<RuntimeException> errors = new LinkedList<>(Arrays.asList(
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY)));
+
+        when(exchangeFunction.exchange(request)).thenReturn(getClientResponseMono(errors));
+        RetryBudget retryBudget = buildRetryBudget(1, 0.5);
+        Resilience4jRetryFilter filter = new Resilience4jRetryFilter(retryRegistry, CLIENT_NAME, retryBudget);
+
+        filter.filter(request, exchangeFunction).block();
+        softly.assertThat(retryBudget.utilisation()).isEqualTo(0.5);
+        filter.filter(request, exchangeFunction).block();
+
+        softly.assertThat(retryBudget.utilisation()).isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    void givenRetryAfterBeyondTheCeiling_whenRetryFilterIsInvoked_thenTheFailureIsReturnedWithoutRetrying() {
+        ClientRequest request =
+                ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "60");
+        WebClientResponseException tooManyRequests = WebClientResponseException.create(
+                HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", headers, new byte[0], null);
+
+        when(exchangeFunction.exchange(request)).thenReturn(Mono.error(tooManyRequests));
+        RetryAfterConfiguration configuration = new RetryAfterConfiguration();
+        configuration.setMaximumPause(Duration.ZERO);
+        RetryAfterPolicy retryAfterPolicy = new RetryAfterPolicy(configuration, new SimpleMeterRegistry(), "test");
+
+        Mono<ClientResponse> response = new Resilience4jRetryFilter(
+                        retryRegistry, CLIENT_NAME, null, retryAfterPolicy)
+                .filter(request, exchangeFunction);
+
+        softly.assertThatThrownBy(response::block).isInstanceOf(WebClientResponseException.TooManyRequests.class);
+        verifyCorrectNumberOfCalls(1, CLIENT_NAME);
+        softly.assertAll();
+    }
+
+    @Test
+    void givenACustomisedRetry_whenTheFilterIsCreated_thenTheDefaultRetryIsNotReplaced() {
+        Retry defaultRetry = retryRegistry.retry(DEFAULT_CONFIG_NAME);
+
+        new Resilience4jRetryFilter(retryRegistry, CLIENT_NAME, buildRetryBudget(1, 0));
+
+        softly.assertThat(retryRegistry.retry(DEFAULT_CONFIG_NAME)).isSameAs(defaultRetry);
+        softly.assertThat(retryRegistry.find(CLIENT_NAME)).isPresent();
+        softly.assertAll();
+    }
+
+    private static RetryBudget buildRetryBudget(int maximumTokens, double ratio) {
+        RetryBudgetConfiguration configuration = new RetryBudgetConfiguration();
+        configuration.setMaximumTokens(maximumTokens);
+        configuration.setRatio(ratio);
+        return new RetryBudget(configuration, new SimpleMeterRegistry(), "test");
+    }
+
     private static WebClientResponseException getWebClientResponseException(HttpStatus status) {
         return WebClientResponseException.create(
                 status.value(), status.getReasonPhrase(), new HttpHeaders(), new byte[0], null);
@@ -0,0 +1,129 @@
+package uk.gov.justice.laa.crime.evidence.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.resilience4j.core.IntervalBiFunction;
+import io.github.resilience4j.core.functions.Either;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.evidence.config.RetryAfterConfiguration;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+class RetryAfterPolicyTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RetryAfterPolicy buildPolicy(Duration ceiling, Duration pause) {
+        RetryAfterConfiguration configuration = new RetryAfterConfiguration();
+        configuration.setCeiling(ceiling);
+        configuration.setDefaultPause(pause);
+        configuration.setMaximumPause(pause);
+        return new RetryAfterPolicy(configuration, meterRegistry, "test");
+    }
+
+    private static WebClientResponseException buildException(HttpStatus status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(
+                status.value(), status.getReasonPhrase(), headers, new byte[0], null);
+    }
+
+    private double pauses() {
+        return meterRegistry.get("maat.api.overload.pauses").counter().count();
+    }
+
+    @Test
+    void givenRetryAfterInSeconds_whenParsed_thenTheDelayIsReturned() {
+        assertThat(RetryAfterPolicy.retryAfter(buildException(HttpStatus.TOO_MANY_REQUESTS, "3")))
+                .contains(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void givenRetryAfterAsAnHttpDate_whenParsed_thenTheTimeUntilThatDateIsReturned() {
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+
+        assertThat(RetryAfterPolicy.retryAfter(buildException(HttpStatus.SERVICE_UNAVAILABLE, date)))
+                .hasValueSatisfying(retryAfter -> assertThat(retryAfter)
+                        .isBetween(Duration.ofSeconds(28), Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void givenRetryAfterOnAResponseThatIsNotAnOverload_whenParsed_thenItIsIgnored() {
+        assertThat(RetryAfterPolicy.retryAfter(buildException(HttpStatus.BAD_GATEWAY, "3")))
+                .isEmpty();
+        assertThat(RetryAfterPolicy.retryAfter(buildException(HttpStatus.TOO_MANY_REQUESTS, "soon")))
+                .isEmpty();
+    }
+
+    @Test
+    void givenRetryAfterBeyondTheCeiling_whenCheckedForRetry_thenItIsNotRetried() {
+        RetryAfterPolicy policy = buildPolicy(Duration.ofSeconds(5), Duration.ZERO);
+
+        assertThat(policy.retryable(throwable -> true).test(buildException(HttpStatus.TOO_MANY_REQUESTS, "6")))
+                .isFalse();
+        assertThat(policy.retryable(throwable -> true).test(buildException(HttpStatus.TOO_MANY_REQUESTS, "5")))
+                .isTrue();
+    }
+
+    @Test
+    void givenRetryAfter_whenTheWaitIsCalculated_thenItIsWaitedOutAndCappedAtTheCeiling() {
+        IntervalBiFunction<Object> interval =
+                buildPolicy(Duration.ofSeconds(5), Duration.ZERO).interval((attempt, result) -> 0L);
+
+        assertThat(interval.apply(1, Either.left(buildException(HttpStatus.TOO_MANY_REQUESTS, "2"))))
+                .isEqualTo(2_000L);
+        assertThat(interval.apply(1, Either.left(buildException(HttpStatus.SERVICE_UNAVAILABLE, "60"))))
+                .isEqualTo(5_000L);
+    }
+
+    @Test
+    void givenNoRetryAfter_whenTheWaitIsCalculated_thenItIsJitteredUpToTheBackoff() {
+        IntervalBiFunction<Object> interval =
+                buildPolicy(Duration.ofSeconds(5), Duration.ZERO).interval((attempt, result) -> 400L);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(interval.apply(1, Either.left(buildException(HttpStatus.BAD_GATEWAY, null))))
+                    .isBetween(0L, 400L);
+        }
+    }
+
+    @Test
+    void givenAnOverloadResponse_whenTheNextCallIsMade_thenItIsHeldForThePause() {
+        RetryAfterPolicy policy = buildPolicy(Duration.ofSeconds(5), Duration.ofMillis(200));
+
+        policy.recordResponse(buildException(HttpStatus.SERVICE_UNAVAILABLE, null));
+        long start = System.nanoTime();
+        policy.awaitPause(Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+                .block();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+        assertThat(pauses()).isEqualTo(1);
+    }
+
+    @Test
+    void givenAResponseThatIsNotAnOverload_whenTheNextCallIsMade_thenItIsNotHeld() {
+        RetryAfterPolicy policy = buildPolicy(Duration.ofSeconds(5), Duration.ofSeconds(2));
+
+        policy.recordResponse(buildException(HttpStatus.BAD_GATEWAY, null));
+        long start = System.nanoTime();
+        policy.awaitPause(Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+                .block();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(pauses()).isZero();
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.justice.laa.crime.evidence.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.BundledIncomeEvidenceReferenceDataSource;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceReferenceData;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceReferenceDataSnapshot;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceReferenceDataSource;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("bundled-reference-data")
+class BundledReferenceDataIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private IncomeEvidenceReferenceDataSource incomeEvidenceReferenceDataSource;
+
+    @Autowired
+    private IncomeEvidenceReferenceData incomeEvidenceReferenceData;
+
+    @Test
+    void givenTheBundledProfile_whenTheApplicationStarts_thenTheRulesAreServedFromTheBundle() {
+        IncomeEvidenceReferenceDataSnapshot snapshot = incomeEvidenceReferenceData.getSnapshot();
+
+        assertThat(incomeEvidenceReferenceDataSource).isInstanceOf(BundledIncomeEvidenceReferenceDataSource.class);
+        assertThat(applicationContext.getBeanNamesForType(DataSource.class)).isEmpty();
+        assertThat(snapshot.incomeEvidenceRequiredIndex().size()).isPositive();
+        assertThat(snapshot.incomeEvidenceRequiredItemTable().size()).isPositive();
+    }
+}
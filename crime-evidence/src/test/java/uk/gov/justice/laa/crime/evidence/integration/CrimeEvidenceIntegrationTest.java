@@ -9,9 +9,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import uk.gov.justice.laa.crime.evidence.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.evidence.service.MaatDataService;
 import uk.gov.justice.laa.crime.util.RequestBuilderUtils;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
@@ -24,6 +27,23 @@ class CrimeEvidenceIntegrationTest extends IntegrationTestBase {
     private static final String CALCULATE_EVIDENCE_FEE = EVIDENCE_BASE_URL.concat("/calculate-evidence-fee");
     public static final String CAPITAL_ASSET_COUNT_URL =
             "/api/internal/v1/assessment/rep-orders/" + TestModelDataBuilder.TEST_REP_ID + "/capital-assets/count";
+    private static final String CAPITAL_ASSET_COUNT_CACHE =
+            EVIDENCE_BASE_URL + "/cache/capital-asset-count/" + TestModelDataBuilder.TEST_REP_ID;
+
+    @Autowired
+    private MaatDataService maatDataService;
+
+    @BeforeEach
+    void evictCachedCapitalAssetCount() {
+        maatDataService.evictCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+    }
+
+    @Test
+    void givenAEmptyOAuthToken_whenEvictCapitalAssetCountIsInvoked_thenFailsUnauthorizedAccess() throws Exception {
+        mvc.perform(RequestBuilderUtils.buildRequestGivenContent(
+                        HttpMethod.DELETE, "", CAPITAL_ASSET_COUNT_CACHE, Boolean.FALSE))
+                .andExpect(status().isUnauthorized());
+    }
 
     @Test
     void givenAEmptyOAuthToken_whenCreateAssessmentIsInvoked_thenFailsUnauthorizedAccess() throws Exception {
@@ -1,10 +1,13 @@
 package uk.gov.justice.laa.crime.evidence.integration;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -32,6 +35,7 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 class PassportEvidenceIntegrationTest extends IntegrationTestBase {
 
     private static final String ENDPOINT_URL = "/api/internal/v1/evidence/passport";
+    private static final String MAAT_API_ETAG = "\"passport-evidence-v1\"";
     private static final String MAAT_API_PASSPORT_EVIDENCE_URL = String.format(
             "/api/internal/v1/assessment/passport-assessments/%d/evidence",
             TestModelDataBuilder.PASSPORT_ASSESSMENT_ID);
@@ -60,6 +64,52 @@ class PassportEvidenceIntegrationTest extends IntegrationTestBase {
         assertThat(result.getResponse().getContentAsString()).isEqualTo(response);
     }
 
+    @Test
+    void givenCachedEvidence_whenTheMaatApiReturnsNotModified_thenTheCachedEvidenceIsReturned() throws Exception {
+        String response = objectMapper.writeValueAsString(TestModelDataBuilder.getApiPassportEvidenceResponse());
+
+        wiremock.stubFor(get(urlEqualTo(MAAT_API_PASSPORT_EVIDENCE_URL))
+                .willReturn(WireMock.ok()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withHeader(HttpHeaders.ETAG, MAAT_API_ETAG)
+                        .withBody(response)));
+        wiremock.stubFor(get(urlEqualTo(MAAT_API_PASSPORT_EVIDENCE_URL))
+                .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo(MAAT_API_ETAG))
+                .willReturn(WireMock.status(HttpStatus.NOT_MODIFIED.value())));
+
+        mvc.perform(RequestBuilderUtils.buildRequest(
+                        HttpMethod.GET, ENDPOINT_URL + "/" + TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
+                .andExpect(status().isOk());
+        MvcResult result = mvc.perform(RequestBuilderUtils.buildRequest(
+                        HttpMethod.GET, ENDPOINT_URL + "/" + TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(response);
+        wiremock.verify(getRequestedFor(urlEqualTo(MAAT_API_PASSPORT_EVIDENCE_URL))
+                .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo(MAAT_API_ETAG)));
+    }
+
+    @Test
+    void givenACurrentETag_whenGetEndpointIsCalled_thenNotModifiedIsReturned() throws Exception {
+        wiremock.stubFor(get(urlEqualTo(MAAT_API_PASSPORT_EVIDENCE_URL))
+                .willReturn(WireMock.ok()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBody(objectMapper.writeValueAsString(
+                                TestModelDataBuilder.getApiPassportEvidenceResponse()))));
+
+        MvcResult result = mvc.perform(RequestBuilderUtils.buildRequest(
+                        HttpMethod.GET, ENDPOINT_URL + "/" + TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+
+        mvc.perform(RequestBuilderUtils.buildRequest(
+                                HttpMethod.GET, ENDPOINT_URL + "/" + TestModelDataBuilder.PASSPORT_ASSESSMENT_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void givenUnauthorisedRequest_whenGetEndpointIsCalled_thenUnauthorisedErrorResponseReturned() throws Exception {
         mvc.perform(RequestBuilderUtils.buildRequest(
@@ -0,0 +1,34 @@
+package uk.gov.justice.laa.crime.evidence.integration;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import uk.gov.justice.laa.crime.util.RequestBuilderUtils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "management.endpoints.web.exposure.include=health,referencedata")
+class ReferenceDataEndpointIntegrationTest extends IntegrationTestBase {
+
+    private static final String REFERENCE_DATA_URL = "/actuator/referencedata";
+
+    @Test
+    void givenTheEndpointIsExposed_whenTheReferenceDataVersionIsRead_thenItIsReturned() throws Exception {
+        mvc.perform(RequestBuilderUtils.buildRequest(HttpMethod.GET, REFERENCE_DATA_URL))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void givenNoOAuthToken_whenAReloadIsRequested_thenFailsUnauthorizedAccess() throws Exception {
+        mvc.perform(RequestBuilderUtils.buildRequestGivenContent(
+                        HttpMethod.POST, "{}", REFERENCE_DATA_URL, Boolean.FALSE))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void givenATokenWithoutTheAdminScope_whenAReloadIsRequested_thenFailsForbiddenAccess() throws Exception {
+        mvc.perform(RequestBuilderUtils.buildRequestGivenContent(HttpMethod.POST, "{}", REFERENCE_DATA_URL))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -35,7 +35,7 @@ class EvidenceServiceTest {
     @Test
     void givenValidCrimeEvidence_whenCalculateEvidenceFeeIsInvoked_validResponseIsReturned() {
         CrimeEvidenceDTO requestDTO = TestModelDataBuilder.getCrimeEvidenceDTO();
-        when(maatDataService.getCapitalAssetCount(anyInt())).thenReturn(2);
+        when(maatDataService.lookUpCapitalAssetCount(anyInt())).thenReturn(StaleWhileRevalidate.Lookup.fresh(2));
         ApiCalculateEvidenceFeeResponse response = evidenceService.calculateEvidenceFee(requestDTO);
 
         softly.assertThat(response.getEvidenceFee().getDescription())
@@ -45,6 +45,20 @@ class EvidenceServiceTest {
         softly.assertAll();
     }
 
+    @Test
+    void givenAStaleCapitalAssetCount_whenLookUpEvidenceFeeIsInvoked_thenTheFeeIsMarkedStale() {
+        CrimeEvidenceDTO requestDTO = TestModelDataBuilder.getCrimeEvidenceDTO();
+        when(maatDataService.lookUpCapitalAssetCount(anyInt())).thenReturn(new StaleWhileRevalidate.Lookup<>(2, true));
+
+        StaleWhileRevalidate.Lookup<ApiCalculateEvidenceFeeResponse> lookup =
+                evidenceService.lookUpEvidenceFee(requestDTO);
+
+        softly.assertThat(lookup.stale()).isTrue();
+        softly.assertThat(lookup.value().getEvidenceFee().getFeeLevel())
+                .isEqualTo(EvidenceFeeLevel.LEVEL1.getFeeLevel());
+        softly.assertAll();
+    }
+
     @Test
     void givenCrimeEvidenceWithNoCapitalEvidence_whenCalculateEvidenceFeeIsInvoked_validResponseIsReturned() {
         CrimeEvidenceDTO requestDTO = TestModelDataBuilder.getCrimeEvidenceDTO();
@@ -3,6 +3,7 @@ package uk.gov.justice.laa.crime.evidence.service;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
@@ -18,11 +19,12 @@ import uk.gov.justice.laa.crime.evidence.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.evidence.dto.CreateEvidenceDTO;
 import uk.gov.justice.laa.crime.evidence.dto.EvidenceReceivedResultDTO;
 import uk.gov.justice.laa.crime.evidence.dto.UpdateEvidenceDTO;
-import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredItemRepository;
-import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredRepository;
-import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.DefaultIncomeEvidenceTemplates;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceReferenceData;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceRequirement;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceShadowVerifier;
+import uk.gov.justice.laa.crime.evidence.staticdata.cache.IncomeEvidenceTypeMask;
 import uk.gov.justice.laa.crime.evidence.staticdata.enums.ApplicantType;
-import uk.gov.justice.laa.crime.evidence.staticdata.projection.IncomeEvidenceRequiredItemProjection;
 import uk.gov.justice.laa.crime.util.DateUtil;
 
 import java.math.BigDecimal;
@@ -41,10 +43,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class IncomeEvidenceServiceTest {
 
     @Mock
-    private IncomeEvidenceRequiredRepository incomeEvidenceRequiredRepository;
+    private IncomeEvidenceReferenceData incomeEvidenceReferenceData;
 
     @Mock
-    private IncomeEvidenceRequiredItemRepository incomeEvidenceRequiredItemRepository;
+    private DefaultIncomeEvidenceTemplates defaultIncomeEvidenceTemplates;
+
+    @Mock
+    private IncomeEvidenceShadowVerifier incomeEvidenceShadowVerifier;
 
     @Mock
     private IncomeEvidenceValidationService incomeEvidenceValidationService;
@@ -55,10 +60,7 @@ class IncomeEvidenceServiceTest {
     @Test
     void
             givenNoRequiredEvidenceItemsExist_whenIsRequiredEvidenceOutstandingIsInvokedWithNoProvidedEvidenceItems_thenReturnFalse() {
-        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(1))
-                .thenReturn(List.of(
-                        createIncomeEvidenceRequiredItemProjection(34, "mock1", false),
-                        createIncomeEvidenceRequiredItemProjection(35, "mock2", false)));
+        when(incomeEvidenceReferenceData.getMandatoryEvidenceMask(1)).thenReturn(mandatoryEvidence());
 
         boolean result = incomeEvidenceService.isRequiredEvidenceOutstanding(1, Collections.emptyList());
 
@@ -68,10 +70,7 @@ class IncomeEvidenceServiceTest {
     @Test
     void
             givenNoRequiredEvidenceItemsExist_whenIsRequiredEvidenceOutstandingIsInvokedWithProvidedEvidenceItems_thenReturnFalse() {
-        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(1))
-                .thenReturn(List.of(
-                        createIncomeEvidenceRequiredItemProjection(34, "mock1", false),
-                        createIncomeEvidenceRequiredItemProjection(35, "mock2", false)));
+        when(incomeEvidenceReferenceData.getMandatoryEvidenceMask(1)).thenReturn(mandatoryEvidence());
 
         List<ApiIncomeEvidence> evidenceItems = List.of(
                 new ApiIncomeEvidence(
@@ -86,10 +85,8 @@ class IncomeEvidenceServiceTest {
     @Test
     void
             givenRequiredEvidenceItemsAndNoEvidenceItemsProvided_whenIsRequiredEvidenceOutstandingIsInvoked_thenReturnTrue() {
-        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(1))
-                .thenReturn(List.of(
-                        createIncomeEvidenceRequiredItemProjection(34, "mock1", false),
-                        createIncomeEvidenceRequiredItemProjection(35, "mock2", true)));
+        when(incomeEvidenceReferenceData.getMandatoryEvidenceMask(1))
+                .thenReturn(mandatoryEvidence(IncomeEvidenceType.OTHER_BUSINESS));
 
         boolean result = incomeEvidenceService.isRequiredEvidenceOutstanding(1, Collections.emptyList());
 
@@ -98,11 +95,8 @@ class IncomeEvidenceServiceTest {
 
     @Test
     void givenAtLeastOneRequiredEvidenceItemNotReceived_whenIsRequiredEvidenceOutstandingIsInvoked_thenReturnTrue() {
-        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(2))
-                .thenReturn(List.of(
-                        createIncomeEvidenceRequiredItemProjection(34, "mock1", false),
-                        createIncomeEvidenceRequiredItemProjection(35, "mock2", false),
-                        createIncomeEvidenceRequiredItemProjection(36, IncomeEvidenceType.EMP_LETTER.getName(), true)));
+        when(incomeEvidenceReferenceData.getMandatoryEvidenceMask(2))
+                .thenReturn(mandatoryEvidence(IncomeEvidenceType.EMP_LETTER));
 
         List<ApiIncomeEvidence> evidenceItems = List.of(
                 new ApiIncomeEvidence(
@@ -115,15 +109,31 @@ class IncomeEvidenceServiceTest {
         assertThat(result).isTrue();
     }
 
+    @Test
+    void
+            givenRequiredEvidenceTypeProvidedTwiceAndOnlyTheSecondReceived_whenIsRequiredEvidenceOutstandingIsInvoked_thenReturnTrue() {
+        when(incomeEvidenceReferenceData.getMandatoryEvidenceMask(2))
+                .thenReturn(mandatoryEvidence(IncomeEvidenceType.NINO));
+
+        List<ApiIncomeEvidence> evidenceItems = List.of(
+                new ApiIncomeEvidence(1, null, IncomeEvidenceType.NINO, true, "National insurance number"),
+                new ApiIncomeEvidence(
+                        2, LocalDate.of(2024, 9, 1), IncomeEvidenceType.NINO, true, "National insurance number"));
+
+        boolean result = incomeEvidenceService.isRequiredEvidenceOutstanding(2, evidenceItems);
+
+        assertThat(result).isTrue();
+    }
+
     @Test
     void
             givenNoEvidenceItemsProvidedAndNoMinimumFoundInDatabaseQuery_whenCheckMinimumEvidenceItemsReceivedIsInvoked_thenReturnTrue() {
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
-                        MagCourtOutcome.APPEAL_TO_CC.getOutcome(),
-                        EmploymentStatus.EMPLOY.getCode(),
-                        EmploymentStatus.EMPLOYED_CASH.getCode(),
-                        "APPLICANT",
-                        0d))
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(
+                        MagCourtOutcome.APPEAL_TO_CC,
+                        EmploymentStatus.EMPLOY,
+                        EmploymentStatus.EMPLOYED_CASH,
+                        ApplicantType.APPLICANT,
+                        BigDecimal.ZERO))
                 .thenReturn(null);
 
         List<ApiIncomeEvidence> providedEvidenceItems = Collections.emptyList();
@@ -143,15 +153,13 @@ class IncomeEvidenceServiceTest {
     @Test
     void
             givenNoEvidenceItemsProvidedAndZeroMinimumItemsRequired_whenCheckMinimumEvidenceItemsReceivedIsInvoked_thenReturnTrue() {
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
-                        MagCourtOutcome.APPEAL_TO_CC.getOutcome(),
-                        EmploymentStatus.EMPLOY.getCode(),
-                        EmploymentStatus.EMPLOYED_CASH.getCode(),
-                        "APPLICANT",
-                        0d))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .evidenceItemsRequired(0)
-                        .build());
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(
+                        MagCourtOutcome.APPEAL_TO_CC,
+                        EmploymentStatus.EMPLOY,
+                        EmploymentStatus.EMPLOYED_CASH,
+                        ApplicantType.APPLICANT,
+                        BigDecimal.ZERO))
+                .thenReturn(new IncomeEvidenceRequirement(0, 0));
 
         List<ApiIncomeEvidence> providedEvidenceItems = Collections.emptyList();
 
@@ -169,15 +177,13 @@ class IncomeEvidenceServiceTest {
 
     @Test
     void givenEvidenceItemsProvidedAndMinimumIsMet_whenCheckMinimumEvidenceItemsReceivedIsInvoked_thenReturnTrue() {
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
-                        MagCourtOutcome.APPEAL_TO_CC.getOutcome(),
-                        EmploymentStatus.EMPLOY.getCode(),
-                        EmploymentStatus.EMPLOYED_CASH.getCode(),
-                        "APPLICANT",
-                        0d))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .evidenceItemsRequired(2)
-                        .build());
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(
+                        MagCourtOutcome.APPEAL_TO_CC,
+                        EmploymentStatus.EMPLOY,
+                        EmploymentStatus.EMPLOYED_CASH,
+                        ApplicantType.APPLICANT,
+                        BigDecimal.ZERO))
+                .thenReturn(new IncomeEvidenceRequirement(0, 2));
 
         List<ApiIncomeEvidence> providedEvidenceItems = List.of(
                 new ApiIncomeEvidence(
@@ -201,15 +207,13 @@ class IncomeEvidenceServiceTest {
 
     @Test
     void givenEvidenceItemsProvidedAndMinimumIsNotMet_whenCheckMinimumEvidenceItemsReceivedIsInvoked_thenReturnFalse() {
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
-                        MagCourtOutcome.APPEAL_TO_CC.getOutcome(),
-                        EmploymentStatus.EMPLOY.getCode(),
-                        EmploymentStatus.EMPLOYED_CASH.getCode(),
-                        "APPLICANT",
-                        0d))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .evidenceItemsRequired(4)
-                        .build());
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(
+                        MagCourtOutcome.APPEAL_TO_CC,
+                        EmploymentStatus.EMPLOY,
+                        EmploymentStatus.EMPLOYED_CASH,
+                        ApplicantType.APPLICANT,
+                        BigDecimal.ZERO))
+                .thenReturn(new IncomeEvidenceRequirement(0, 4));
 
         List<ApiIncomeEvidence> providedEvidenceItems = List.of(
                 new ApiIncomeEvidence(
@@ -233,15 +237,13 @@ class IncomeEvidenceServiceTest {
 
     @Test
     void givenMinimumEvidenceItemsNotMet_whenCheckEvidenceReceivedIsInvoked_thenReturnFalse() {
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
-                        MagCourtOutcome.APPEAL_TO_CC.getOutcome(),
-                        EmploymentStatus.EMPLOY.getCode(),
-                        EmploymentStatus.EMPLOYED_CASH.getCode(),
-                        "APPLICANT",
-                        0d))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .evidenceItemsRequired(4)
-                        .build());
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(
+                        MagCourtOutcome.APPEAL_TO_CC,
+                        EmploymentStatus.EMPLOY,
+                        EmploymentStatus.EMPLOYED_CASH,
+                        ApplicantType.APPLICANT,
+                        BigDecimal.ZERO))
+                .thenReturn(new IncomeEvidenceRequirement(0, 4));
 
         List<ApiIncomeEvidence> applicantEvidenceItems = new ArrayList<>();
 
@@ -258,22 +260,16 @@ class IncomeEvidenceServiceTest {
 
     @Test
     void givenOutstandingEvidence_whenCheckEvidenceReceivedIsInvoked_thenReturnFalse() {
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
-                        MagCourtOutcome.APPEAL_TO_CC.getOutcome(),
-                        EmploymentStatus.EMPLOY.getCode(),
-                        EmploymentStatus.EMPLOYED_CASH.getCode(),
-                        "APPLICANT",
-                        0d))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .id(2)
-                        .evidenceItemsRequired(1)
-                        .build());
-
-        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(2))
-                .thenReturn(List.of(
-                        createIncomeEvidenceRequiredItemProjection(34, "mock1", false),
-                        createIncomeEvidenceRequiredItemProjection(35, "mock2", false),
-                        createIncomeEvidenceRequiredItemProjection(36, "mock3", true)));
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(
+                        MagCourtOutcome.APPEAL_TO_CC,
+                        EmploymentStatus.EMPLOY,
+                        EmploymentStatus.EMPLOYED_CASH,
+                        ApplicantType.APPLICANT,
+                        BigDecimal.ZERO))
+                .thenReturn(new IncomeEvidenceRequirement(2, 1));
+
+        when(incomeEvidenceReferenceData.getMandatoryEvidenceMask(2))
+                .thenReturn(mandatoryEvidence(IncomeEvidenceType.NINO));
 
         List<ApiIncomeEvidence> applicantEvidenceItems = List.of(
                 new ApiIncomeEvidence(
@@ -294,22 +290,16 @@ class IncomeEvidenceServiceTest {
 
     @Test
     void givenNoOutstandingEvidence_whenCheckEvidenceReceivedIsInvoked_thenReturnTrue() {
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
-                        MagCourtOutcome.APPEAL_TO_CC.getOutcome(),
-                        EmploymentStatus.EMPLOY.getCode(),
-                        EmploymentStatus.EMPLOYED_CASH.getCode(),
-                        "APPLICANT",
-                        0d))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .id(2)
-                        .evidenceItemsRequired(1)
-                        .build());
-
-        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(2))
-                .thenReturn(List.of(
-                        createIncomeEvidenceRequiredItemProjection(34, "mock1", false),
-                        createIncomeEvidenceRequiredItemProjection(35, "mock2", false),
-                        createIncomeEvidenceRequiredItemProjection(36, IncomeEvidenceType.EMP_LETTER.getName(), true)));
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(
+                        MagCourtOutcome.APPEAL_TO_CC,
+                        EmploymentStatus.EMPLOY,
+                        EmploymentStatus.EMPLOYED_CASH,
+                        ApplicantType.APPLICANT,
+                        BigDecimal.ZERO))
+                .thenReturn(new IncomeEvidenceRequirement(2, 1));
+
+        when(incomeEvidenceReferenceData.getMandatoryEvidenceMask(2))
+                .thenReturn(mandatoryEvidence(IncomeEvidenceType.EMP_LETTER));
 
         List<ApiIncomeEvidence> applicantEvidenceItems = List.of(
                 new ApiIncomeEvidence(
@@ -329,24 +319,12 @@ class IncomeEvidenceServiceTest {
         assertThat(result).isTrue();
     }
 
-    private static IncomeEvidenceRequiredItemProjection createIncomeEvidenceRequiredItemProjection(
-            int id, String description, boolean mandatory) {
-        return new IncomeEvidenceRequiredItemProjection() {
-            @Override
-            public int getId() {
-                return id;
-            }
-
-            @Override
-            public String getMandatory() {
-                return mandatory ? "Y" : "N";
-            }
-
-            @Override
-            public String getIncomeEvidenceRequiredDescription() {
-                return description;
-            }
-        };
+    private static long mandatoryEvidence(IncomeEvidenceType... evidenceTypes) {
+        long mandatoryEvidence = 0;
+        for (IncomeEvidenceType evidenceType : evidenceTypes) {
+            mandatoryEvidence |= IncomeEvidenceTypeMask.bit(evidenceType);
+        }
+        return mandatoryEvidence;
     }
 
     @Test
@@ -439,10 +417,8 @@ class IncomeEvidenceServiceTest {
                 .withApplicantEvidenceItems(new ApiIncomeEvidenceItems(applicantDetails, applicantEvidenceItems))
                 .withDueDate(evidenceDueDate)
                 .withAllEvidenceReceivedDate(null);
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(any(), any(), any(), any(), any()))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .evidenceItemsRequired(3)
-                        .build());
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(any(), any(), any(), any(), any()))
+                .thenReturn(new IncomeEvidenceRequirement(0, 3));
 
         ApiUpdateIncomeEvidenceResponse actualResponse = incomeEvidenceService.updateEvidence(updateEvidenceDTO);
 
@@ -494,16 +470,12 @@ class IncomeEvidenceServiceTest {
     void givenValidCreateEvidenceDTO_whenCreateEvidenceIsInvoked_thenDefaultIncomeEvidenceIsCreated() {
         CreateEvidenceDTO createEvidenceDTO = TestModelDataBuilder.getCreateEvidenceRequest();
         createEvidenceDTO.setPartnerDetails(null);
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(any(), any(), any(), any(), any()))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .evidenceItemsRequired(1)
-                        .build());
-        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(any()))
-                .thenReturn(List.of(
-                        createIncomeEvidenceRequiredItemProjection(1, IncomeEvidenceType.NINO.getName(), true)));
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(any(), any(), any(), any(), any()))
+                .thenReturn(new IncomeEvidenceRequirement(0, 1));
         ApiIncomeEvidence apiIncomeEvidence = new ApiIncomeEvidence()
                 .withEvidenceType(IncomeEvidenceType.NINO)
                 .withMandatory(true);
+        when(defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(anyInt())).thenReturn(List.of(apiIncomeEvidence));
         ApiCreateIncomeEvidenceResponse expectedResponse = new ApiCreateIncomeEvidenceResponse()
                 .withApplicantEvidenceItems(
                         getApiIncomeEvidenceItems(createEvidenceDTO.getApplicantDetails(), apiIncomeEvidence));
@@ -515,16 +487,12 @@ class IncomeEvidenceServiceTest {
     void
             givenValidCreateEvidenceDTOWithPartnerDetails_whenCreateEvidenceIsInvoked_thenDefaultIncomeEvidenceIsCreated() {
         CreateEvidenceDTO createEvidenceDTO = TestModelDataBuilder.getCreateEvidenceRequest();
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(any(), any(), any(), any(), any()))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .evidenceItemsRequired(1)
-                        .build());
-        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(any()))
-                .thenReturn(List.of(
-                        createIncomeEvidenceRequiredItemProjection(1, IncomeEvidenceType.NINO.getName(), true)));
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(any(), any(), any(), any(), any()))
+                .thenReturn(new IncomeEvidenceRequirement(0, 1));
         ApiIncomeEvidence apiIncomeEvidence = new ApiIncomeEvidence()
                 .withEvidenceType(IncomeEvidenceType.NINO)
                 .withMandatory(true);
+        when(defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(anyInt())).thenReturn(List.of(apiIncomeEvidence));
         ApiCreateIncomeEvidenceResponse expectedResponse = new ApiCreateIncomeEvidenceResponse()
                 .withPartnerEvidenceItems(
                         getApiIncomeEvidenceItems(createEvidenceDTO.getPartnerDetails(), apiIncomeEvidence))
@@ -546,7 +514,7 @@ class IncomeEvidenceServiceTest {
             givenAScenarioWhereNullEvidenceItemsReturned_whenCreateEvidenceIsInvoked_thenNoDefaultIncomeEvidenceIsCreated() {
         CreateEvidenceDTO createEvidenceDTO = TestModelDataBuilder.getCreateEvidenceRequest();
         createEvidenceDTO.setPartnerDetails(null);
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(any(), any(), any(), any(), any()))
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(any(), any(), any(), any(), any()))
                 .thenReturn(null);
         ApiCreateIncomeEvidenceResponse expectedResponse = new ApiCreateIncomeEvidenceResponse()
                 .withApplicantEvidenceItems(
@@ -560,10 +528,8 @@ class IncomeEvidenceServiceTest {
             givenAScenarioWhereZeroEvidenceItemsReturned_whenCreateEvidenceIsInvoked_thenNoDefaultIncomeEvidenceIsCreated() {
         CreateEvidenceDTO createEvidenceDTO = TestModelDataBuilder.getCreateEvidenceRequest();
         createEvidenceDTO.setPartnerDetails(null);
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(any(), any(), any(), any(), any()))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .evidenceItemsRequired(0)
-                        .build());
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(any(), any(), any(), any(), any()))
+                .thenReturn(new IncomeEvidenceRequirement(0, 0));
         ApiCreateIncomeEvidenceResponse expectedResponse = new ApiCreateIncomeEvidenceResponse()
                 .withApplicantEvidenceItems(
                         new ApiIncomeEvidenceItems().withApplicantDetails(createEvidenceDTO.getApplicantDetails()));
@@ -605,10 +571,8 @@ class IncomeEvidenceServiceTest {
                 .withAllEvidenceReceivedDate(null)
                 .withUpliftAppliedDate(upliftAppliedDate)
                 .withUpliftRemovedDate(null);
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(any(), any(), any(), any(), any()))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .evidenceItemsRequired(3)
-                        .build());
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(any(), any(), any(), any(), any()))
+                .thenReturn(new IncomeEvidenceRequirement(0, 3));
 
         ApiUpdateIncomeEvidenceResponse actualResponse = incomeEvidenceService.updateEvidence(updateEvidenceDTO);
 
@@ -645,10 +609,8 @@ class IncomeEvidenceServiceTest {
                 .withAllEvidenceReceivedDate(evidenceDueDate)
                 .withUpliftAppliedDate(oldUpliftAppliedDate)
                 .withUpliftRemovedDate(LocalDate.now());
-        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(any(), any(), any(), any(), any()))
-                .thenReturn(IncomeEvidenceRequiredEntity.builder()
-                        .evidenceItemsRequired(0)
-                        .build());
+        when(incomeEvidenceReferenceData.findIncomeEvidenceRequired(any(), any(), any(), any(), any()))
+                .thenReturn(new IncomeEvidenceRequirement(0, 0));
 
         ApiUpdateIncomeEvidenceResponse actualResponse = incomeEvidenceService.updateEvidence(updateEvidenceDTO);
 
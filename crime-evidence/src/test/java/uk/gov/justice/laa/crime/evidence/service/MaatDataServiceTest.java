@@ -1,15 +1,25 @@
 package uk.gov.justice.laa.crime.evidence.service;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import uk.gov.justice.laa.crime.evidence.client.MaatDataApiClient;
+import uk.gov.justice.laa.crime.evidence.config.MaatDataCacheConfiguration;
 import uk.gov.justice.laa.crime.evidence.data.builder.TestModelDataBuilder;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -19,13 +29,150 @@ class MaatDataServiceTest {
     @Mock
     private MaatDataApiClient maatDataApiClient;
 
-    @InjectMocks
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MaatDataCacheConfiguration cacheConfiguration = new MaatDataCacheConfiguration();
+
     private MaatDataService maatDataService;
 
+    @BeforeEach
+    void setUp() {
+        maatDataService = new MaatDataService(maatDataApiClient, cacheConfiguration, meterRegistry);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry
+                .get("cache.gets")
+                .tag("cache", MaatDataService.CAPITAL_ASSET_COUNT_CACHE)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
     @Test
     void givenAValidRepId_whenGetCapitalAssetCountIsInvoked_thenResponseIsReturned() {
         when(maatDataApiClient.getCapitalAssetCount(any())).thenReturn(5);
         assertThat(maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
                 .isEqualTo(5);
     }
+
+    @Test
+    void givenACachedCount_whenGetCapitalAssetCountIsInvokedAgain_thenTheMaatApiIsCalledOnce() {
+        when(maatDataApiClient.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .thenReturn(5);
+
+        maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+        assertThat(maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .isEqualTo(5);
+
+        verify(maatDataApiClient).getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+        assertThat(cacheGets("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void givenAnEvictedCount_whenGetCapitalAssetCountIsInvoked_thenTheMaatApiIsCalledAgain() {
+        when(maatDataApiClient.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .thenReturn(5, 7);
+
+        maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+        maatDataService.evictCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+
+        assertThat(maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .isEqualTo(7);
+    }
+
+    @Test
+    void givenAFetchInFlight_whenTheCountIsEvicted_thenTheFetchedCountIsNotCached() throws Exception {
+        cacheConfiguration.getStaleWhileRevalidate().setEnabled(true);
+        maatDataService = new MaatDataService(maatDataApiClient, cacheConfiguration, meterRegistry);
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        when(maatDataApiClient.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .thenAnswer(invocation -> {
+                    fetching.countDown();
+                    evicted.await(5, TimeUnit.SECONDS);
+                    return 5;
+                })
+                .thenReturn(7);
+        CompletableFuture<Integer> inFlight = CompletableFuture.supplyAsync(
+                () -> maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID));
+        assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+
+        maatDataService.evictCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+        evicted.countDown();
+
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo(5);
+        assertThat(maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .isEqualTo(7);
+        verify(maatDataApiClient, times(2)).getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+    }
+
+    @Test
+    void givenTheMaatApiFails_whenGetCapitalAssetCountIsInvokedAgain_thenTheFailureIsNotCached() {
+        when(maatDataApiClient.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .thenThrow(new IllegalStateException("MAAT API unavailable"))
+                .thenReturn(5);
+
+        assertThatThrownBy(() -> maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .isEqualTo(5);
+    }
+
+    @Test
+    void givenANotFoundRepId_whenGetCapitalAssetCountIsInvokedAgain_thenTheMaatApiIsNotCalledAgain() {
+        when(maatDataApiClient.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .thenReturn(null);
+
+        maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+        assertThat(maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .isNull();
+
+        verify(maatDataApiClient).getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", MaatDataService.CAPITAL_ASSET_COUNT_NOT_FOUND_CACHE)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenAnEvictedNotFoundRepId_whenGetCapitalAssetCountIsInvoked_thenTheMaatApiIsCalledAgain() {
+        when(maatDataApiClient.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .thenReturn(null, 5);
+
+        maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+        maatDataService.evictCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+
+        assertThat(maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .isEqualTo(5);
+    }
+
+    @Test
+    void givenTheNotFoundCacheIsDisabled_whenANotFoundRepIdIsRequestedTwice_thenTheMaatApiIsCalledTwice() {
+        cacheConfiguration.getNotFound().setEnabled(false);
+        when(maatDataApiClient.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .thenReturn(null);
+
+        maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+        maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+
+        verify(maatDataApiClient, times(2)).getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+    }
+
+    @Test
+    void givenTheCacheIsDisabled_whenGetCapitalAssetCountIsInvokedTwice_thenTheMaatApiIsCalledTwice() {
+        cacheConfiguration.setEnabled(false);
+        when(maatDataApiClient.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID))
+                .thenReturn(5);
+
+        maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+        maatDataService.getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+
+        verify(maatDataApiClient, times(2)).getCapitalAssetCount(TestModelDataBuilder.TEST_REP_ID);
+    }
 }
@@ -1,37 +1,127 @@
 package uk.gov.justice.laa.crime.evidence.service;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.laa.crime.evidence.data.builder.TestModelDataBuilder.getApiPassportEvidenceResponse;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import uk.gov.justice.laa.crime.common.model.evidence.ApiGetPassportEvidenceResponse;
 import uk.gov.justice.laa.crime.evidence.client.MaatDataApiClient;
+import uk.gov.justice.laa.crime.evidence.config.MaatDataCacheConfiguration;
 import uk.gov.justice.laa.crime.evidence.data.builder.TestModelDataBuilder;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 @ExtendWith(MockitoExtension.class)
 class PassportEvidenceServiceTest {
 
+    private static final String ETAG = "\"v1\"";
+
     @Mock
     private MaatDataApiClient maatDataApiClient;
 
-    @InjectMocks
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MaatDataCacheConfiguration cacheConfiguration = new MaatDataCacheConfiguration();
+
     private PassportEvidenceService passportEvidenceService;
 
+    @BeforeEach
+    void setUp() {
+        passportEvidenceService = new PassportEvidenceService(maatDataApiClient, cacheConfiguration, meterRegistry);
+    }
+
+    private double revalidations(String result) {
+        return meterRegistry
+                .get("maat.api.passport.evidence.revalidations")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
     @Test
     void givenValidId_whenGetPassportEvidenceIsInvoked_thenPassportEvidenceResponseReturned() {
         ApiGetPassportEvidenceResponse expectedResponse = getApiPassportEvidenceResponse();
-        when(maatDataApiClient.getPassportEvidence(anyInt())).thenReturn(expectedResponse);
+        when(maatDataApiClient.getPassportEvidence(anyInt(), isNull())).thenReturn(ResponseEntity.ok(expectedResponse));
 
         ApiGetPassportEvidenceResponse actualResponse =
                 passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID);
 
         assertThat(actualResponse).isEqualTo(expectedResponse);
     }
+
+    @Test
+    void givenCachedEvidence_whenTheMaatApiReturnsNotModified_thenTheCachedEvidenceIsReturned() {
+        ApiGetPassportEvidenceResponse expectedResponse = getApiPassportEvidenceResponse();
+        when(maatDataApiClient.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID, null))
+                .thenReturn(ResponseEntity.ok().eTag(ETAG).body(expectedResponse));
+        when(maatDataApiClient.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID, ETAG))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID);
+
+        assertThat(passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
+                .isSameAs(expectedResponse);
+        assertThat(revalidations("not_modified")).isEqualTo(1);
+    }
+
+    @Test
+    void givenCachedEvidence_whenTheMaatApiReturnsNewEvidence_thenTheNewEvidenceIsReturned() {
+        ApiGetPassportEvidenceResponse updatedResponse = getApiPassportEvidenceResponse();
+        when(maatDataApiClient.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID, null))
+                .thenReturn(ResponseEntity.ok().eTag(ETAG).body(getApiPassportEvidenceResponse()));
+        when(maatDataApiClient.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID, ETAG))
+                .thenReturn(ResponseEntity.ok().eTag("\"v2\"").body(updatedResponse));
+
+        passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID);
+
+        assertThat(passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
+                .isSameAs(updatedResponse);
+        assertThat(revalidations("modified")).isEqualTo(1);
+    }
+
+    @Test
+    void givenAResponseWithoutAnETag_whenGetPassportEvidenceIsInvokedAgain_thenNoValidatorIsSent() {
+        when(maatDataApiClient.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID, null))
+                .thenReturn(ResponseEntity.ok(getApiPassportEvidenceResponse()));
+
+        passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID);
+        passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID);
+
+        assertThat(revalidations("not_modified") + revalidations("modified")).isZero();
+    }
+
+    @Test
+    void givenANotFoundPassportAssessment_whenGetPassportEvidenceIsInvokedAgain_thenTheMaatApiIsNotCalledAgain() {
+        when(maatDataApiClient.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID, null))
+                .thenReturn(ResponseEntity.ok().build());
+
+        passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID);
+
+        assertThat(passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID))
+                .isNull();
+        verify(maatDataApiClient).getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID, null);
+    }
+
+    @Test
+    void givenTheCacheIsDisabled_whenGetPassportEvidenceIsInvokedAgain_thenNoValidatorIsSent() {
+        cacheConfiguration.getPassportEvidence().setEnabled(false);
+        when(maatDataApiClient.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID, null))
+                .thenReturn(ResponseEntity.ok().eTag(ETAG).body(getApiPassportEvidenceResponse()));
+
+        passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID);
+        passportEvidenceService.getPassportEvidence(TestModelDataBuilder.PASSPORT_ASSESSMENT_ID);
+
+        assertThat(revalidations("not_modified") + revalidations("modified")).isZero();
+    }
 }
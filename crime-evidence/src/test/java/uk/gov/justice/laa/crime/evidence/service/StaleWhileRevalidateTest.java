@@ -0,0 +1,143 @@
+package uk.gov.justice.laa.crime.evidence.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.evidence.config.MaatDataCacheConfiguration;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class StaleWhileRevalidateTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StaleWhileRevalidate<Integer, Integer> build(boolean enabled, Duration softTtl) {
+        MaatDataCacheConfiguration.StaleWhileRevalidate configuration =
+                new MaatDataCacheConfiguration.StaleWhileRevalidate();
+        configuration.setEnabled(enabled);
+        configuration.setSoftTtl(softTtl);
+        return new StaleWhileRevalidate<>("test", configuration, meterRegistry);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).tag("operation", "test").counter().count();
+    }
+
+    private static void awaitLatch(CountDownLatch latch) throws InterruptedException {
+        assertThat(latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    void givenStaleWhileRevalidateIsDisabled_whenAKeyIsLookedUpTwice_thenTheMaatApiIsAskedBothTimes() {
+        StaleWhileRevalidate<Integer, Integer> lastKnown = build(false, Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+
+        lastKnown.get(1, key -> calls.incrementAndGet());
+
+        assertThat(lastKnown.get(1, key -> calls.incrementAndGet()))
+                .isEqualTo(new StaleWhileRevalidate.Lookup<>(2, false));
+        assertThat(count("maat.api.stale.serves")).isZero();
+    }
+
+    @Test
+    void givenALastKnownValueWithinTheSoftTtl_whenTheKeyIsLookedUp_thenItIsServedFreshWithoutARefresh() {
+        StaleWhileRevalidate<Integer, Integer> lastKnown = build(true, Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+        lastKnown.get(1, key -> 5);
+
+        assertThat(lastKnown.get(1, key -> calls.incrementAndGet()))
+                .isEqualTo(new StaleWhileRevalidate.Lookup<>(5, false));
+        assertThat(calls).hasValue(0);
+        assertThat(count("maat.api.stale.serves")).isZero();
+    }
+
+    @Test
+    void givenALastKnownValuePastTheSoftTtl_whenTheKeyIsLookedUp_thenItIsServedStaleAndRefreshedInTheBackground()
+            throws Exception {
+        StaleWhileRevalidate<Integer, Integer> lastKnown = build(true, Duration.ZERO);
+        CountDownLatch refreshed = new CountDownLatch(1);
+        lastKnown.get(1, key -> 5);
+
+        assertThat(lastKnown.get(1, key -> {
+                    refreshed.countDown();
+                    return 7;
+                }))
+                .isEqualTo(new StaleWhileRevalidate.Lookup<>(5, true));
+        awaitLatch(refreshed);
+
+        assertThat(count("maat.api.stale.serves")).isEqualTo(1);
+        // The refresh may still be storing its result, so wait for it to land
+        await().atMost(TIMEOUT).until(() -> lastKnown.get(1, key -> 7).value() == 7);
+    }
+
+    @Test
+    void givenTheBackgroundRefreshFails_whenTheKeyIsLookedUpAgain_thenTheLastKnownValueIsStillServed() {
+        StaleWhileRevalidate<Integer, Integer> lastKnown = build(true, Duration.ZERO);
+        lastKnown.get(1, key -> 5);
+
+        lastKnown.get(1, key -> {
+            throw new IllegalStateException("MAAT API unavailable");
+        });
+        await().atMost(TIMEOUT).until(() -> count("maat.api.stale.refresh.failures") > 0);
+
+        assertThat(lastKnown.get(1, key -> 5).value()).isEqualTo(5);
+    }
+
+    @Test
+    void givenNoLastKnownValue_whenTheMaatApiFails_thenTheFailureIsReturned() {
+        StaleWhileRevalidate<Integer, Integer> lastKnown = build(true, Duration.ZERO);
+
+        assertThatThrownBy(() -> lastKnown.get(1, key -> {
+                    throw new IllegalStateException("MAAT API unavailable");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(count("maat.api.stale.serves")).isZero();
+    }
+
+    @Test
+    void givenAnEvictedValue_whenTheKeyIsLookedUp_thenTheMaatApiIsAskedAgain() {
+        StaleWhileRevalidate<Integer, Integer> lastKnown = build(true, Duration.ZERO);
+        lastKnown.get(1, key -> 5);
+
+        lastKnown.evict(1);
+
+        assertThat(lastKnown.get(1, key -> 7)).isEqualTo(new StaleWhileRevalidate.Lookup<>(7, false));
+        assertThat(count("maat.api.stale.serves")).isZero();
+    }
+
+    @Test
+    void givenAFetchInFlight_whenTheKeyIsEvicted_thenTheFetchedValueIsNotRemembered() throws Exception {
+        StaleWhileRevalidate<Integer, Integer> lastKnown = build(true, Duration.ofMinutes(1));
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        CompletableFuture<StaleWhileRevalidate.Lookup<Integer>> inFlight =
+                CompletableFuture.supplyAsync(() -> lastKnown.get(1, key -> {
+                    fetching.countDown();
+                    try {
+                        awaitLatch(evicted);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return 5;
+                }));
+        awaitLatch(fetching);
+
+        lastKnown.evict(1);
+        evicted.countDown();
+
+        assertThat(inFlight.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+                .isEqualTo(new StaleWhileRevalidate.Lookup<>(5, false));
+        assertThat(lastKnown.get(1, key -> 7)).isEqualTo(new StaleWhileRevalidate.Lookup<>(7, false));
+    }
+}
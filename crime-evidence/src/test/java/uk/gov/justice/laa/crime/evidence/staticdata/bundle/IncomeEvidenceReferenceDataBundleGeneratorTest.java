@@ -0,0 +1,91 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.bundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredItemEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class IncomeEvidenceReferenceDataBundleGeneratorTest {
+
+    private static final Path CHANGESETS = Path.of("src/main/resources/db.changelog/changeset");
+
+    private static final List<String> REQUIRED_LINES = List.of(
+            "--liquibase formatted sql",
+            "Insert into crime_evidence.INCOME_EVIDENCE_REQUIRED(ID,MCOO_OUTCOME,APPLICANT_EMST_CODE,"
+                    + "EVIDENCE_ITEMS_REQUIRED,ANNUAL_PENSION_AMOUNT,APPLICANT_PARTNER,PARTNER_EMST_CODE,DATE_CREATED,"
+                    + "USER_CREATED,DATE_MODIFIED,USER_MODIFIED) values (9552084,'SENT FOR TRIAL','EMPCDS',2,"
+                    + "12000.01,'APPLICANT',null,"
+                    + "to_timestamp('20-DEC-10 21.41.31.618728000','DD-MON-RR HH24.MI.SSXFF'),'TOGDATA',null,null);");
+
+    private static final List<String> ITEM_LINES = List.of(
+            "Insert into crime_evidence.INCOME_EVIDENCE_REQ_ITEMS(ID,IEVR_ID,INEV_EVIDENCE,MANDATORY,DATE_CREATED,"
+                    + "USER_CREATED) values (1,9552084,'WAGE SLIP','Y',sysdate,'O''BRIEN');");
+
+    @Test
+    void givenAnInsertStatement_whenParsed_thenTheRuleIsMapped() {
+        List<IncomeEvidenceRequiredEntity> rules =
+                IncomeEvidenceReferenceDataBundleGenerator.parseIncomeEvidenceRequired(REQUIRED_LINES);
+
+        assertThat(rules).singleElement().satisfies(rule -> {
+            assertThat(rule.getId()).isEqualTo(9552084);
+            assertThat(rule.getMcooOutcome()).isEqualTo("SENT FOR TRIAL");
+            assertThat(rule.getApplicantEmstCode()).isEqualTo("EMPCDS");
+            assertThat(rule.getEvidenceItemsRequired()).isEqualTo(2);
+            assertThat(rule.getAnnualPensionAmount()).isEqualTo(12000);
+            assertThat(rule.getApplicantPartner()).isEqualTo("APPLICANT");
+            assertThat(rule.getPartnerEmstCode()).isNull();
+        });
+    }
+
+    @Test
+    void givenEscapedQuotesAndFunctionCalls_whenParsed_thenValuesAreSplitCorrectly() {
+        assertThat(IncomeEvidenceReferenceDataBundleGenerator.parseInserts(ITEM_LINES))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row).containsEntry("INEV_EVIDENCE", "WAGE SLIP");
+                    assertThat(row).containsEntry("DATE_CREATED", "sysdate");
+                    assertThat(row).containsEntry("USER_CREATED", "O'BRIEN");
+                });
+    }
+
+    @Test
+    void givenParsedRows_whenWrittenAndReadBack_thenTheContentsAreUnchanged() throws IOException {
+        IncomeEvidenceReferenceDataBundle.Contents contents = new IncomeEvidenceReferenceDataBundle.Contents(
+                IncomeEvidenceReferenceDataBundleGenerator.parseIncomeEvidenceRequired(REQUIRED_LINES),
+                IncomeEvidenceReferenceDataBundleGenerator.parseIncomeEvidenceRequiredItems(ITEM_LINES));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        IncomeEvidenceReferenceDataBundle.write(contents, outputStream);
+        IncomeEvidenceReferenceDataBundle.Contents read =
+                IncomeEvidenceReferenceDataBundle.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertThat(read.incomeEvidenceRequired())
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(contents.incomeEvidenceRequired());
+        assertThat(read.incomeEvidenceRequiredItems())
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(contents.incomeEvidenceRequiredItems());
+    }
+
+    @Test
+    void givenTheLiquibaseChangesets_whenParsed_thenEveryRowIsBundled() throws IOException {
+        List<IncomeEvidenceRequiredEntity> rules =
+                IncomeEvidenceReferenceDataBundleGenerator.parseIncomeEvidenceRequired(
+                        Files.readAllLines(CHANGESETS.resolve("07-income-evidence-required-insert.sql")));
+        List<IncomeEvidenceRequiredItemEntity> items =
+                IncomeEvidenceReferenceDataBundleGenerator.parseIncomeEvidenceRequiredItems(
+                        Files.readAllLines(CHANGESETS.resolve("09-income-evidence-req-items-insert.sql")));
+
+        assertThat(rules).hasSize(462);
+        assertThat(items).hasSize(1148);
+    }
+}
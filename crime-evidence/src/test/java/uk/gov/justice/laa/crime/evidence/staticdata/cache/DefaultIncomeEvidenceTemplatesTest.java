@@ -0,0 +1,111 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.common.model.evidence.ApiIncomeEvidence;
+import uk.gov.justice.laa.crime.enums.evidence.IncomeEvidenceType;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredItemEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultIncomeEvidenceTemplatesTest {
+
+    @Mock
+    private IncomeEvidenceReferenceData incomeEvidenceReferenceData;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DefaultIncomeEvidenceTemplates defaultIncomeEvidenceTemplates;
+
+    @BeforeEach
+    void setUp() {
+        when(incomeEvidenceReferenceData.getSnapshot()).thenReturn(buildSnapshot(1L));
+        defaultIncomeEvidenceTemplates = new DefaultIncomeEvidenceTemplates(incomeEvidenceReferenceData, meterRegistry);
+    }
+
+    private static IncomeEvidenceReferenceDataSnapshot buildSnapshot(long version) {
+        IncomeEvidenceRequiredItemTable itemTable = IncomeEvidenceRequiredItemTable.of(List.of(
+                IncomeEvidenceRequiredItemEntity.builder()
+                        .incomeEvidenceRequiredId(5)
+                        .incomeEvidenceRequiredDescription(IncomeEvidenceType.NINO.getName())
+                        .mandatory("Y")
+                        .build(),
+                IncomeEvidenceRequiredItemEntity.builder()
+                        .incomeEvidenceRequiredId(5)
+                        .incomeEvidenceRequiredDescription(IncomeEvidenceType.WAGE_SLIP.getName())
+                        .mandatory("N")
+                        .build()));
+        return new IncomeEvidenceReferenceDataSnapshot(version, Instant.now(), null, null, itemTable, null);
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .get("evidence.default.templates")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Test
+    void givenARequiredId_whenGetDefaultEvidenceItemsIsInvoked_thenTheDefaultItemsAreReturned() {
+        assertThat(defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(5))
+                .containsExactly(
+                        new ApiIncomeEvidence()
+                                .withEvidenceType(IncomeEvidenceType.NINO)
+                                .withMandatory(true),
+                        new ApiIncomeEvidence()
+                                .withEvidenceType(IncomeEvidenceType.WAGE_SLIP)
+                                .withMandatory(false));
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void givenATemplateHasBeenBuilt_whenGetDefaultEvidenceItemsIsInvokedAgain_thenTheSharedTemplateIsReturned() {
+        List<ApiIncomeEvidence> first = defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(5);
+
+        List<ApiIncomeEvidence> second = defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(5);
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> second.add(new ApiIncomeEvidence()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void givenAnIdWithoutItems_whenGetDefaultEvidenceItemsIsInvoked_thenAnEmptyListIsReturned() {
+        assertThat(defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(6)).isEmpty();
+    }
+
+    @Test
+    void givenANewSnapshot_whenGetDefaultEvidenceItemsIsInvoked_thenTheTemplateIsRebuilt() {
+        defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(5);
+        when(incomeEvidenceReferenceData.getSnapshot()).thenReturn(buildSnapshot(2L));
+
+        defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(5);
+
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void givenNewerTemplatesArePublished_whenAnOlderSnapshotIsStillCurrent_thenTheNewerTemplatesAreKept() {
+        when(incomeEvidenceReferenceData.getSnapshot()).thenReturn(buildSnapshot(2L));
+        List<ApiIncomeEvidence> newer = defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(5);
+        when(incomeEvidenceReferenceData.getSnapshot()).thenReturn(buildSnapshot(1L));
+
+        assertThat(defaultIncomeEvidenceTemplates.getDefaultEvidenceItems(5)).isSameAs(newer);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import uk.gov.justice.laa.crime.enums.evidence.IncomeEvidenceType;
+
+import org.junit.jupiter.api.Test;
+
+class EvidenceCodeRegistryTest {
+
+    @Test
+    void givenEveryIncomeEvidenceTypeCode_whenGetIncomeEvidenceTypeIsInvoked_thenTheSameConstantAsTheEnumIsReturned() {
+        for (IncomeEvidenceType incomeEvidenceType : IncomeEvidenceType.values()) {
+            assertThat(EvidenceCodeRegistry.getIncomeEvidenceType(incomeEvidenceType.getName()))
+                    .isEqualTo(IncomeEvidenceType.getFrom(incomeEvidenceType.getName()));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import uk.gov.justice.laa.crime.common.model.evidence.ApiEvidenceFee;
+import uk.gov.justice.laa.crime.enums.EvidenceFeeLevel;
+import uk.gov.justice.laa.crime.evidence.staticdata.enums.EvidenceFeeRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class EvidenceFeeRulesTableTest {
+
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    // The linear scan over the rules that the table replaces
+    private static EvidenceFeeRules firstMatchingRule(
+            String emstCode, String allIncomeEvidenceReceived, String allCapitalEvidenceReceived, long count) {
+        return Stream.of(EvidenceFeeRules.values())
+                .filter(rule -> rule.getEmstCode().equals(emstCode)
+                        && rule.getAllIncomeEvidenceReceived().equals(allIncomeEvidenceReceived)
+                        && rule.getAllCapitalEvidenceReceived().equals(allCapitalEvidenceReceived)
+                        && rule.getCapitalEvidenceItemsLower() <= count
+                        && (rule.getCapitalEvidenceItemsUpper() == null
+                                || rule.getCapitalEvidenceItemsUpper() >= count))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Test
+    void givenEveryInputCombination_whenFindIsInvoked_thenTheFirstMatchingRuleIsReturned() {
+        List<String> emstCodes = new ArrayList<>(Stream.of(EvidenceFeeRules.values())
+                .map(EvidenceFeeRules::getEmstCode)
+                .distinct()
+                .toList());
+        emstCodes.add("UNKNOWN");
+
+        for (String emstCode : emstCodes) {
+            for (String incomeReceived : List.of("Y", "N")) {
+                for (String capitalReceived : List.of("Y", "N")) {
+                    for (long count = 0; count <= 20; count++) {
+                        EvidenceFeeRules rule = firstMatchingRule(emstCode, incomeReceived, capitalReceived, count);
+                        ApiEvidenceFee evidenceFee = EvidenceFeeRulesTable.find(
+                                emstCode, "Y".equals(incomeReceived), "Y".equals(capitalReceived), count);
+
+                        if (rule == null) {
+                            softly.assertThat(evidenceFee).isNull();
+                        } else {
+                            softly.assertThat(evidenceFee.getFeeLevel())
+                                    .isEqualTo(rule.getEvidenceFeeLevel().getFeeLevel());
+                            softly.assertThat(evidenceFee.getDescription())
+                                    .isEqualTo(rule.getEvidenceFeeLevel().getDescription());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenACountAboveEveryBound_whenFindIsInvoked_thenTheOpenEndedRuleApplies() {
+        assertThat(EvidenceFeeRulesTable.find("EMPLOY", true, true, Long.MAX_VALUE).getFeeLevel())
+                .isEqualTo(EvidenceFeeLevel.LEVEL1.getFeeLevel());
+    }
+
+    @Test
+    void givenANegativeCountOrNullEmstCode_whenFindIsInvoked_thenNullIsReturned() {
+        assertThat(EvidenceFeeRulesTable.find("SELF", true, true, -1)).isNull();
+        assertThat(EvidenceFeeRulesTable.find(null, true, true, 0)).isNull();
+    }
+}
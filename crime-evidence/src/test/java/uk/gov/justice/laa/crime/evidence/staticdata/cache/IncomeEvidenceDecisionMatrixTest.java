@@ -0,0 +1,87 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.enums.EmploymentStatus;
+import uk.gov.justice.laa.crime.enums.MagCourtOutcome;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.enums.ApplicantType;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class IncomeEvidenceDecisionMatrixTest {
+
+    private static final String EMPLOY = EmploymentStatus.EMPLOY.getCode();
+    private static final String EMPLOYED_CASH = EmploymentStatus.EMPLOYED_CASH.getCode();
+
+    private final IncomeEvidenceDecisionMatrix matrix = IncomeEvidenceDecisionMatrix.of(
+            IncomeEvidenceRequiredIndex.of(List.of(
+                    buildRule(1, null, "APPLICANT", 0, 2),
+                    buildRule(2, EMPLOYED_CASH, "APPLICANT", 0, 3),
+                    buildRule(3, EMPLOYED_CASH, "APPLICANT", 12000, 1),
+                    buildRule(4, EMPLOYED_CASH, "PARTNER", 0, 4))));
+
+    private static IncomeEvidenceRequiredEntity buildRule(
+            int id, String partnerEmstCode, String applicantPartner, int annualPensionAmount, int itemsRequired) {
+        return IncomeEvidenceRequiredEntity.builder()
+                .id(id)
+                .mcooOutcome(MagCourtOutcome.SENT_FOR_TRIAL.getOutcome())
+                .applicantEmstCode(EMPLOY)
+                .partnerEmstCode(partnerEmstCode)
+                .applicantPartner(applicantPartner)
+                .annualPensionAmount(annualPensionAmount)
+                .evidenceItemsRequired(itemsRequired)
+                .build();
+    }
+
+    private IncomeEvidenceRequirement find(
+            EmploymentStatus partnerEmploymentStatus, ApplicantType applicantType, BigDecimal pensionAmount) {
+        return matrix.find(
+                MagCourtOutcome.SENT_FOR_TRIAL,
+                EmploymentStatus.EMPLOY,
+                partnerEmploymentStatus,
+                applicantType,
+                pensionAmount);
+    }
+
+    @Test
+    void givenPensionBelowHighestThreshold_whenFindIsInvoked_thenLowerThresholdDecisionIsReturned() {
+        assertThat(find(EmploymentStatus.EMPLOYED_CASH, ApplicantType.APPLICANT, new BigDecimal("11999.99")))
+                .isEqualTo(new IncomeEvidenceRequirement(2, 3));
+    }
+
+    @Test
+    void givenPensionAboveHighestThreshold_whenFindIsInvoked_thenHighestThresholdDecisionIsReturned() {
+        assertThat(find(EmploymentStatus.EMPLOYED_CASH, ApplicantType.APPLICANT, new BigDecimal("50000")))
+                .isEqualTo(new IncomeEvidenceRequirement(3, 1));
+    }
+
+    @Test
+    void givenNullPension_whenFindIsInvoked_thenPensionIsTreatedAsZero() {
+        assertThat(find(EmploymentStatus.EMPLOYED_CASH, ApplicantType.PARTNER, null))
+                .isEqualTo(new IncomeEvidenceRequirement(4, 4));
+    }
+
+    @Test
+    void givenNoPartnerEmploymentStatus_whenFindIsInvoked_thenOnlyRulesWithoutPartnerCodeMatch() {
+        assertThat(find(null, ApplicantType.APPLICANT, BigDecimal.ZERO))
+                .isEqualTo(new IncomeEvidenceRequirement(1, 2));
+        assertThat(find(null, ApplicantType.PARTNER, BigDecimal.ZERO)).isNull();
+    }
+
+    @Test
+    void givenNegativePension_whenFindIsInvoked_thenNullIsReturned() {
+        assertThat(find(EmploymentStatus.EMPLOYED_CASH, ApplicantType.PARTNER, BigDecimal.ONE.negate()))
+                .isNull();
+    }
+
+    @Test
+    void givenCellsWithTheSameRequiredId_whenFindIsInvoked_thenTheDecisionIsShared() {
+        assertThat(find(EmploymentStatus.EMPLOYED_CASH, ApplicantType.PARTNER, BigDecimal.ZERO))
+                .isSameAs(find(EmploymentStatus.EMPLOYED_CASH, ApplicantType.PARTNER, new BigDecimal("20000")));
+        assertThat(matrix.footprint().distinctDecisions()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,76 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.laa.crime.enums.EmploymentStatus;
+import uk.gov.justice.laa.crime.enums.MagCourtOutcome;
+import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredItemRepository;
+import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredRepository;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.enums.ApplicantType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IncomeEvidenceReferenceDataTest {
+
+    @Mock
+    private IncomeEvidenceRequiredRepository incomeEvidenceRequiredRepository;
+
+    @Mock
+    private IncomeEvidenceRequiredItemRepository incomeEvidenceRequiredItemRepository;
+
+    private IncomeEvidenceReferenceData buildReferenceData() {
+        return new IncomeEvidenceReferenceData(new JpaIncomeEvidenceReferenceDataSource(
+                incomeEvidenceRequiredRepository, incomeEvidenceRequiredItemRepository));
+    }
+
+    @Test
+    void givenUnchangedTables_whenReloadIfChangedIsInvoked_thenTheCurrentSnapshotIsKept() {
+        IncomeEvidenceReferenceData referenceData = buildReferenceData();
+        IncomeEvidenceReferenceDataSnapshot snapshot = referenceData.getSnapshot();
+
+        assertThat(referenceData.reloadIfChanged()).isFalse();
+        assertThat(referenceData.getSnapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    void givenAModifiedRow_whenReloadIfChangedIsInvoked_thenANewVersionIsPublished() {
+        IncomeEvidenceReferenceData referenceData = buildReferenceData();
+        assertThat(referenceData.findIncomeEvidenceRequired(
+                        MagCourtOutcome.SENT_FOR_TRIAL,
+                        EmploymentStatus.EMPLOY,
+                        null,
+                        ApplicantType.APPLICANT,
+                        BigDecimal.ZERO))
+                .isNull();
+
+        when(incomeEvidenceRequiredRepository.findLastModifiedDateTime()).thenReturn(LocalDateTime.now());
+        when(incomeEvidenceRequiredRepository.findAll())
+                .thenReturn(List.of(IncomeEvidenceRequiredEntity.builder()
+                        .id(1)
+                        .mcooOutcome(MagCourtOutcome.SENT_FOR_TRIAL.getOutcome())
+                        .applicantEmstCode(EmploymentStatus.EMPLOY.getCode())
+                        .applicantPartner(ApplicantType.APPLICANT.toString())
+                        .evidenceItemsRequired(2)
+                        .build()));
+
+        assertThat(referenceData.reloadIfChanged()).isTrue();
+        assertThat(referenceData.getSnapshot().version()).isEqualTo(2);
+        assertThat(referenceData.findIncomeEvidenceRequired(
+                        MagCourtOutcome.SENT_FOR_TRIAL,
+                        EmploymentStatus.EMPLOY,
+                        null,
+                        ApplicantType.APPLICANT,
+                        BigDecimal.ZERO))
+                .isEqualTo(new IncomeEvidenceRequirement(1, 2));
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class IncomeEvidenceRequiredIndexTest {
+
+    private static final String SENT_FOR_TRIAL = "SENT FOR TRIAL";
+
+    private final IncomeEvidenceRequiredIndex index = IncomeEvidenceRequiredIndex.of(List.of(
+            buildRule(1, "EMPLOY", null, "APPLICANT", 0, 2),
+            buildRule(2, "EMPLOY", "NONPASS", "APPLICANT", 0, 3),
+            buildRule(3, "EMPLOY", "NONPASS", "APPLICANT", 12000, 1),
+            buildRule(4, "EMPLOY", "NONPASS", "PARTNER", 0, 4)));
+
+    private static IncomeEvidenceRequiredEntity buildRule(
+            int id,
+            String applicantEmstCode,
+            String partnerEmstCode,
+            String applicantPartner,
+            int annualPensionAmount,
+            int evidenceItemsRequired) {
+        return IncomeEvidenceRequiredEntity.builder()
+                .id(id)
+                .mcooOutcome(SENT_FOR_TRIAL)
+                .applicantEmstCode(applicantEmstCode)
+                .partnerEmstCode(partnerEmstCode)
+                .applicantPartner(applicantPartner)
+                .annualPensionAmount(annualPensionAmount)
+                .evidenceItemsRequired(evidenceItemsRequired)
+                .build();
+    }
+
+    @Test
+    void givenPensionBelowHighestThreshold_whenFindIsInvoked_thenLowerThresholdIsReturned() {
+        assertThat(index.find(SENT_FOR_TRIAL, "EMPLOY", "NONPASS", "APPLICANT", 11999.99))
+                .isEqualTo(new IncomeEvidenceRequirement(2, 3));
+    }
+
+    @Test
+    void givenPensionAtHighestThreshold_whenFindIsInvoked_thenHighestThresholdIsReturned() {
+        assertThat(index.find(SENT_FOR_TRIAL, "EMPLOY", "NONPASS", "APPLICANT", 12000d))
+                .isEqualTo(new IncomeEvidenceRequirement(3, 1));
+    }
+
+    @Test
+    void givenNullPension_whenFindIsInvoked_thenPensionIsTreatedAsZero() {
+        assertThat(index.find(SENT_FOR_TRIAL, "EMPLOY", "NONPASS", "APPLICANT", null))
+                .isEqualTo(new IncomeEvidenceRequirement(2, 3));
+    }
+
+    @Test
+    void givenNullPartnerCode_whenFindIsInvoked_thenOnlyRulesWithoutPartnerCodeMatch() {
+        assertThat(index.find(SENT_FOR_TRIAL, "EMPLOY", null, "APPLICANT", 0d))
+                .isEqualTo(new IncomeEvidenceRequirement(1, 2));
+        assertThat(index.find(SENT_FOR_TRIAL, "EMPLOY", null, "PARTNER", 0d)).isNull();
+    }
+
+    @Test
+    void givenNegativePension_whenFindIsInvoked_thenNullIsReturned() {
+        assertThat(index.find(SENT_FOR_TRIAL, "EMPLOY", "NONPASS", "PARTNER", -1d)).isNull();
+    }
+
+    @Test
+    void givenUnknownOutcome_whenFindIsInvoked_thenNullIsReturned() {
+        assertThat(index.find("APPEAL TO CC", "EMPLOY", "NONPASS", "APPLICANT", 0d)).isNull();
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.enums.evidence.IncomeEvidenceType;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredItemEntity;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class IncomeEvidenceRequiredItemTableTest {
+
+    private final IncomeEvidenceRequiredItemTable table = IncomeEvidenceRequiredItemTable.of(List.of(
+            buildItem(20, IncomeEvidenceType.NINO, "Y"),
+            buildItem(10, IncomeEvidenceType.ACCOUNTS, "N"),
+            buildItem(20, IncomeEvidenceType.BANK_STATEMENT, "N")));
+
+    private static IncomeEvidenceRequiredItemEntity buildItem(
+            int incomeEvidenceRequiredId, IncomeEvidenceType evidenceType, String mandatory) {
+        return IncomeEvidenceRequiredItemEntity.builder()
+                .incomeEvidenceRequiredId(incomeEvidenceRequiredId)
+                .incomeEvidenceRequiredDescription(evidenceType.getName())
+                .mandatory(mandatory)
+                .build();
+    }
+
+    @Test
+    void givenAKnownRequiredId_whenGetIsInvoked_thenItemsAreReturnedInReadOrder() {
+        assertThat(table.get(20))
+                .containsExactly(
+                        new IncomeEvidenceRequiredItem(IncomeEvidenceType.NINO, true),
+                        new IncomeEvidenceRequiredItem(IncomeEvidenceType.BANK_STATEMENT, false));
+    }
+
+    @Test
+    void givenAnUnknownRequiredId_whenGetIsInvoked_thenAnEmptyListIsReturned() {
+        assertThat(table.get(15)).isEmpty();
+    }
+
+    @Test
+    void givenARequiredId_whenGetIsInvokedTwice_thenTheSameListIsReturned() {
+        assertThat(table.get(10)).isSameAs(table.get(10));
+        assertThat(table.size()).isEqualTo(3);
+    }
+
+    @Test
+    void givenAKnownRequiredId_whenGetMandatoryEvidenceMaskIsInvoked_thenOnlyMandatoryTypesAreSet() {
+        assertThat(table.getMandatoryEvidenceMask(20)).isEqualTo(IncomeEvidenceTypeMask.bit(IncomeEvidenceType.NINO));
+        assertThat(table.getMandatoryEvidenceMask(10)).isZero();
+        assertThat(table.getMandatoryEvidenceMask(15)).isZero();
+    }
+}
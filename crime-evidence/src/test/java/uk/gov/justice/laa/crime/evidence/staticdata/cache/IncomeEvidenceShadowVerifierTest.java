@@ -0,0 +1,235 @@
+package uk.gov.justice.laa.crime.evidence.staticdata.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.common.model.evidence.ApiIncomeEvidence;
+import uk.gov.justice.laa.crime.enums.EmploymentStatus;
+import uk.gov.justice.laa.crime.enums.MagCourtOutcome;
+import uk.gov.justice.laa.crime.enums.evidence.IncomeEvidenceType;
+import uk.gov.justice.laa.crime.evidence.config.ReferenceDataShadowConfiguration;
+import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredItemRepository;
+import uk.gov.justice.laa.crime.evidence.repository.IncomeEvidenceRequiredRepository;
+import uk.gov.justice.laa.crime.evidence.staticdata.entity.IncomeEvidenceRequiredEntity;
+import uk.gov.justice.laa.crime.evidence.staticdata.enums.ApplicantType;
+import uk.gov.justice.laa.crime.evidence.staticdata.projection.IncomeEvidenceRequiredItemProjection;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class IncomeEvidenceShadowVerifierTest {
+
+    @Mock
+    private IncomeEvidenceRequiredRepository incomeEvidenceRequiredRepository;
+
+    @Mock
+    private IncomeEvidenceRequiredItemRepository incomeEvidenceRequiredItemRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private IncomeEvidenceShadowVerifier buildVerifier(boolean enabled) {
+        ReferenceDataShadowConfiguration configuration = new ReferenceDataShadowConfiguration();
+        configuration.setEnabled(enabled);
+        configuration.setSampleRate(1.0);
+        return new IncomeEvidenceShadowVerifier(
+                provider(incomeEvidenceRequiredRepository),
+                provider(incomeEvidenceRequiredItemRepository),
+                configuration,
+                meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T bean) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(bean);
+        return provider;
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .get("evidence.reference.data.shadow")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private void verifyIncomeEvidenceRequired(IncomeEvidenceShadowVerifier verifier, IncomeEvidenceRequirement served) {
+        verifier.verifyIncomeEvidenceRequired(
+                MagCourtOutcome.SENT_FOR_TRIAL,
+                EmploymentStatus.EMPLOY,
+                null,
+                ApplicantType.APPLICANT,
+                BigDecimal.ZERO,
+                served);
+    }
+
+    private static IncomeEvidenceRequiredItemProjection buildProjection(
+            IncomeEvidenceType evidenceType, String mandatory) {
+        return new IncomeEvidenceRequiredItemProjection() {
+            @Override
+            public int getId() {
+                return 0;
+            }
+
+            @Override
+            public String getMandatory() {
+                return mandatory;
+            }
+
+            @Override
+            public String getIncomeEvidenceRequiredDescription() {
+                return evidenceType.getName();
+            }
+        };
+    }
+
+    @Test
+    void givenShadowModeIsDisabled_whenAVerificationIsRequested_thenTheDatabaseIsNotQueried() throws Exception {
+        IncomeEvidenceShadowVerifier verifier = buildVerifier(false);
+
+        verifyIncomeEvidenceRequired(verifier, new IncomeEvidenceRequirement(1, 2));
+        verifier.verifyDefaultEvidenceItems(1, List.of());
+        verifier.verifyMandatoryEvidence(1, 0L);
+        verifier.shutdown();
+
+        verifyNoInteractions(incomeEvidenceRequiredRepository, incomeEvidenceRequiredItemRepository);
+    }
+
+    @Test
+    void givenNoRepositoriesAreAvailable_whenAVerificationIsRequested_thenNothingIsVerified() throws Exception {
+        ReferenceDataShadowConfiguration configuration = new ReferenceDataShadowConfiguration();
+        configuration.setEnabled(true);
+        configuration.setSampleRate(1.0);
+        IncomeEvidenceShadowVerifier verifier = new IncomeEvidenceShadowVerifier(
+                provider(null), provider(null), configuration, meterRegistry);
+
+        verifyIncomeEvidenceRequired(verifier, new IncomeEvidenceRequirement(1, 2));
+        verifier.verifyDefaultEvidenceItems(1, List.of());
+        verifier.verifyMandatoryEvidence(1, 0L);
+        verifier.shutdown();
+
+        assertThat(count("match") + count("mismatch") + count("error")).isZero();
+    }
+
+    @Test
+    void givenTheDatabaseAgrees_whenAVerificationIsRequested_thenAMatchIsCounted() throws Exception {
+        when(incomeEvidenceRequiredRepository.getNumberOfEvidenceItemsRequired(
+                        MagCourtOutcome.SENT_FOR_TRIAL.getOutcome(),
+                        EmploymentStatus.EMPLOY.getCode(),
+                        null,
+                        ApplicantType.APPLICANT.toString(),
+                        0d))
+                .thenReturn(IncomeEvidenceRequiredEntity.builder()
+                        .id(1)
+                        .evidenceItemsRequired(2)
+                        .build());
+        IncomeEvidenceShadowVerifier verifier = buildVerifier(true);
+
+        verifyIncomeEvidenceRequired(verifier, new IncomeEvidenceRequirement(1, 2));
+        verifier.shutdown();
+
+        assertThat(count("match")).isEqualTo(1);
+        assertThat(count("mismatch")).isZero();
+    }
+
+    @Test
+    void givenTheDatabaseDisagrees_whenAVerificationIsRequested_thenAMismatchIsCounted() throws Exception {
+        IncomeEvidenceShadowVerifier verifier = buildVerifier(true);
+
+        verifyIncomeEvidenceRequired(verifier, new IncomeEvidenceRequirement(1, 2));
+        verifier.shutdown();
+
+        assertThat(count("mismatch")).isEqualTo(1);
+    }
+
+    @Test
+    void givenItemsReturnedInADifferentOrder_whenDefaultItemsAreVerified_thenAMatchIsCounted() throws Exception {
+        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(7))
+                .thenReturn(List.of(
+                        buildProjection(IncomeEvidenceType.WAGE_SLIP, "N"),
+                        buildProjection(IncomeEvidenceType.NINO, "Y")));
+        IncomeEvidenceShadowVerifier verifier = buildVerifier(true);
+
+        verifier.verifyDefaultEvidenceItems(
+                7,
+                List.of(
+                        new ApiIncomeEvidence()
+                                .withEvidenceType(IncomeEvidenceType.NINO)
+                                .withMandatory(true),
+                        new ApiIncomeEvidence()
+                                .withEvidenceType(IncomeEvidenceType.WAGE_SLIP)
+                                .withMandatory(false)));
+        verifier.shutdown();
+
+        assertThat(count("match")).isEqualTo(1);
+    }
+
+    @Test
+    void givenADifferentMandatoryFlagWasServed_whenDefaultItemsAreVerified_thenAMismatchIsCounted() throws Exception {
+        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(7))
+                .thenReturn(List.of(buildProjection(IncomeEvidenceType.NINO, "Y")));
+        IncomeEvidenceShadowVerifier verifier = buildVerifier(true);
+
+        verifier.verifyDefaultEvidenceItems(
+                7,
+                List.of(new ApiIncomeEvidence()
+                        .withEvidenceType(IncomeEvidenceType.NINO)
+                        .withMandatory(false)));
+        verifier.shutdown();
+
+        assertThat(count("mismatch")).isEqualTo(1);
+    }
+
+    @Test
+    void givenTheServedMaskMatchesTheDatabase_whenMandatoryEvidenceIsVerified_thenAMatchIsCounted() throws Exception {
+        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(7))
+                .thenReturn(List.of(
+                        buildProjection(IncomeEvidenceType.WAGE_SLIP, "N"),
+                        buildProjection(IncomeEvidenceType.NINO, "Y")));
+        IncomeEvidenceShadowVerifier verifier = buildVerifier(true);
+
+        verifier.verifyMandatoryEvidence(7, IncomeEvidenceTypeMask.bit(IncomeEvidenceType.NINO));
+        verifier.shutdown();
+
+        assertThat(count("match")).isEqualTo(1);
+    }
+
+    @Test
+    void givenTheServedMaskDiffersFromTheDatabase_whenMandatoryEvidenceIsVerified_thenAMismatchIsCounted()
+            throws Exception {
+        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(7))
+                .thenReturn(List.of(buildProjection(IncomeEvidenceType.NINO, "Y")));
+        IncomeEvidenceShadowVerifier verifier = buildVerifier(true);
+
+        verifier.verifyMandatoryEvidence(
+                7,
+                IncomeEvidenceTypeMask.bit(IncomeEvidenceType.NINO)
+                        | IncomeEvidenceTypeMask.bit(IncomeEvidenceType.WAGE_SLIP));
+        verifier.shutdown();
+
+        assertThat(count("mismatch")).isEqualTo(1);
+    }
+
+    @Test
+    void givenTheDatabaseQueryFails_whenAVerificationIsRequested_thenAnErrorIsCounted() throws Exception {
+        when(incomeEvidenceRequiredItemRepository.findByIncomeEvidenceRequiredId(7))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        IncomeEvidenceShadowVerifier verifier = buildVerifier(true);
+
+        verifier.verifyMandatoryEvidence(7, 0L);
+        verifier.shutdown();
+
+        assertThat(count("error")).isEqualTo(1);
+    }
+}
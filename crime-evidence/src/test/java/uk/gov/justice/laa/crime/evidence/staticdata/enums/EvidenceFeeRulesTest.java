@@ -4,30 +4,17 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import uk.gov.justice.laa.crime.enums.EvidenceFeeLevel;
-import uk.gov.justice.laa.crime.evidence.dto.EvidenceFeeRulesDTO;
 
 import org.junit.jupiter.api.Test;
 
 class EvidenceFeeRulesTest {
 
-    @Test
-    void givenABlankString_whenGetFromIsInvoked_thenNullIsReturned() {
-        assertThat(EvidenceFeeRules.getFrom(null)).isNull();
-    }
-
     @Test
     void valueOfCurrentStatusFromString_nullParameter_ReturnsNull() {
         assertThatThrownBy(() -> EvidenceFeeLevel.getFrom("MOCK_RESULT_STRING"))
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
-    @Test
-    void testGetFrom() {
-        EvidenceFeeRules result = EvidenceFeeRules.getFrom(
-                new EvidenceFeeRulesDTO("SELF-CASH", "Y", "Y", Long.valueOf(0), Long.valueOf(0)));
-        assertThat(result).isEqualTo(EvidenceFeeRules.SELF_CASH);
-    }
-
     @Test
     void testValues() {
         EvidenceFeeRules[] result = EvidenceFeeRules.values();
@@ -29,4 +29,16 @@ class IncomeEvidenceTest {
         IncomeEvidence result = IncomeEvidence.valueOf("SIGNATURE");
         assertThat(result).isEqualTo(IncomeEvidence.SIGNATURE);
     }
+
+    @Test
+    void givenEveryIncomeEvidenceCode_whenGetFromIsInvoked_thenTheMatchingConstantIsReturned() {
+        for (IncomeEvidence incomeEvidence : IncomeEvidence.values()) {
+            assertThat(IncomeEvidence.getFrom(incomeEvidence.getEvidence())).isEqualTo(incomeEvidence);
+        }
+    }
+
+    @Test
+    void givenAWhitespaceString_whenGetFromIsInvoked_thenNullIsReturned() {
+        assertThat(IncomeEvidence.getFrom(" ")).isNull();
+    }
 }